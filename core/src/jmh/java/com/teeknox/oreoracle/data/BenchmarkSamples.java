@@ -0,0 +1,26 @@
+package com.teeknox.oreoracle.data;
+
+import java.util.Random;
+
+/**
+ * Shared inputs for the core JMH benchmarks.
+ * The core module has no Minecraft classes, so unlike the overlay benchmarks nothing needs bootstrapping.
+ */
+final class BenchmarkSamples {
+    /** Number of pre-generated samples per benchmark (power of two for cheap wrap-around). */
+    static final int SAMPLES = 1024;
+
+    private BenchmarkSamples() {}
+
+    /**
+     * Generate Y-levels spread over the full overworld height, seeded for repeatable runs.
+     */
+    static int[] randomYLevels(long seed) {
+        Random random = new Random(seed);
+        int[] ys = new int[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            ys[i] = -64 + random.nextInt(448);
+        }
+        return ys;
+    }
+}
@@ -0,0 +1,56 @@
+package com.teeknox.oreoracle.data;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filter evaluation as done by OreOracleOverlay.updateCachedEntries: every visible ore at a Y-level as one bitmask.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FilterBenchmark {
+    // Some mountain and badlands terrain nearby, as reported by the biome survey
+    private static final BiomeMix BLENDED = new BiomeMix(0.3f, 0.1f);
+
+    @Param({"GREEN", "YELLOW", "RED", "NONE"})
+    public String filterName;
+
+    private int visibleTiers;
+    private long trackedMask;
+    private OreTierTable table;
+    private int[] ys;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        visibleTiers = OreFilter.visibleTiers(ProbabilityTier.valueOf(filterName));
+
+        Random random = new Random(42);
+        for (Ore ore : Ore.values()) {
+            if (random.nextBoolean()) {
+                trackedMask |= ore.getMask();
+            }
+        }
+
+        table = OreTierTable.builtIn();
+        ys = BenchmarkSamples.randomYLevels(42);
+    }
+
+    @Benchmark
+    public long displayMask() {
+        int y = ys[cursor++ & (BenchmarkSamples.SAMPLES - 1)];
+        return OreFilter.displayMask(visibleTiers, trackedMask, table, y, BiomeClass.NORMAL, BiomeMix.NONE);
+    }
+
+    @Benchmark
+    public long displayMaskBlended() {
+        int y = ys[cursor++ & (BenchmarkSamples.SAMPLES - 1)];
+        return OreFilter.displayMask(visibleTiers, trackedMask, table, y, BiomeClass.NORMAL, BLENDED);
+    }
+}
@@ -0,0 +1,143 @@
+package com.teeknox.oreoracle.data;
+
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Synthetic modpack scenario: hundreds of data-driven ore definitions compiled into one table.
+ * The definitions cycle through the {@link Ore} IDs, as stacked resource packs overriding one another would,
+ * since the table only compiles those.
+ * Measures table compilation and the HUD recompute against that table: the filter's display mask,
+ * then the displayed ores grouped by tier with the same counting sort as the overlay's entries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ModpackScaleBenchmark {
+    private static final Gson GSON = new Gson();
+    private static final String[] TIER_NAMES = {"GREEN", "YELLOW", "RED"};
+    private static final ProbabilityTier[] TIERS = ProbabilityTier.values();
+    private static final int ORE_COUNT = Ore.values().length;
+
+    @Param({"500"})
+    public int oreCount;
+
+    private List<OreDefinition> definitions;
+    private OreTierTable table;
+    private int[] ys;
+    private int visibleTiers;
+    private long trackedMask;
+    private int cursor;
+
+    // Reused storage, as in the overlay's entries
+    private final Ore[] pendingOres = new Ore[ORE_COUNT];
+    private final ProbabilityTier[] pendingTiers = new ProbabilityTier[ORE_COUNT];
+    private final int[] bucketOffsets = new int[TIERS.length];
+    private final Ore[] ores = new Ore[ORE_COUNT];
+    private final boolean[] atPeak = new boolean[ORE_COUNT];
+    private final int[] percents = new int[ORE_COUNT];
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+
+        definitions = new ArrayList<>(oreCount);
+        for (int i = 0; i < oreCount; i++) {
+            OreDefinition definition = GSON.fromJson(syntheticDefinition(i, random), OreDefinition.class);
+            String error = definition.validate();
+            if (error != null) {
+                throw new IllegalStateException("Invalid synthetic definition: " + error);
+            }
+            definitions.add(definition);
+        }
+
+        table = OreTierTable.compile(definitions);
+        ys = BenchmarkSamples.randomYLevels(42);
+        visibleTiers = OreFilter.visibleTiers(ProbabilityTier.RED);
+        for (Ore ore : Ore.values()) {
+            if (random.nextInt(10) == 0) {
+                trackedMask |= ore.getMask();
+            }
+        }
+    }
+
+    @Benchmark
+    public OreTierTable compile() {
+        return OreTierTable.compile(definitions);
+    }
+
+    @Benchmark
+    public int recomputeAll() {
+        int y = ys[cursor++ & (BenchmarkSamples.SAMPLES - 1)];
+        long displayMask = OreFilter.displayMask(visibleTiers, trackedMask, table, y, BiomeClass.NORMAL, BiomeMix.NONE);
+
+        // Collect the displayed ores and count them per tier
+        int count = 0;
+        Arrays.fill(bucketOffsets, 0);
+        for (long bits = displayMask & Ore.getDimensionMask(Dimension.OVERWORLD); bits != 0; bits &= bits - 1) {
+            Ore ore = Ore.fromOrdinal(Long.numberOfTrailingZeros(bits));
+            ProbabilityTier tier = BiomeMix.NONE.getTier(table, ore, y, BiomeClass.NORMAL);
+            pendingOres[count] = ore;
+            pendingTiers[count] = tier;
+            bucketOffsets[tier.ordinal()]++;
+            count++;
+        }
+
+        // Turn the counts into each tier's first slot, then place the ores in collection order
+        int offset = 0;
+        for (int i = 0; i < bucketOffsets.length; i++) {
+            int tierCount = bucketOffsets[i];
+            bucketOffsets[i] = offset;
+            offset += tierCount;
+        }
+        for (int i = 0; i < count; i++) {
+            Ore ore = pendingOres[i];
+            ProbabilityTier tier = pendingTiers[i];
+            int index = bucketOffsets[tier.ordinal()]++;
+            ores[index] = ore;
+            atPeak[index] = tier != ProbabilityTier.NONE && table.isAtPeak(ore, y);
+            OreDensity density = table.getDensity(ore);
+            percents[index] = density != null
+                    ? (int) Math.ceil(BiomeMix.NONE.getFractionOfMax(density, y, BiomeClass.NORMAL) * 100)
+                    : -1;
+        }
+        return count;
+    }
+
+    private static String syntheticDefinition(int index, Random random) {
+        int minY = -64 + random.nextInt(200);
+        int maxY = minY + 16 + random.nextInt(200);
+        int peak = minY + random.nextInt(maxY - minY + 1);
+
+        StringBuilder json = new StringBuilder();
+        json.append("{\"ore\":\"").append(Ore.fromOrdinal(index % ORE_COUNT).getId()).append('"')
+                .append(",\"minY\":").append(minY)
+                .append(",\"maxY\":").append(maxY)
+                .append(",\"peaks\":[").append(peak).append(']');
+        if (random.nextInt(10) == 0) {
+            json.append(",\"biome\":\"MOUNTAIN\"");
+        }
+        json.append(",\"bands\":[");
+        for (int band = 0; band < 3; band++) {
+            int bandMin = minY + random.nextInt(maxY - minY + 1);
+            int bandMax = bandMin + random.nextInt(Math.max(1, maxY - bandMin + 1));
+            if (band > 0) {
+                json.append(',');
+            }
+            json.append("{\"tier\":\"").append(TIER_NAMES[band])
+                    .append("\",\"minY\":").append(bandMin)
+                    .append(",\"maxY\":").append(bandMax).append('}');
+        }
+        json.append("],\"defaultTier\":\"RED\"}");
+        return json.toString();
+    }
+}
@@ -0,0 +1,65 @@
+package com.teeknox.oreoracle.data;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-ore tier lookup: compiled {@link OreTierTable} versus the {@link OreDistribution} branch chains.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TierLookupBenchmark {
+
+    @Param({"COAL", "IRON", "GOLD", "EMERALD", "ANCIENT_DEBRIS"})
+    public String oreName;
+
+    private Ore ore;
+    private OreTierTable table;
+    private int[] ys;
+    private BiomeClass[] biomeClasses;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        ore = Ore.valueOf(oreName);
+        table = OreTierTable.builtIn();
+        ys = BenchmarkSamples.randomYLevels(42);
+
+        Random random = new Random(7);
+        BiomeClass[] values = BiomeClass.values();
+        biomeClasses = new BiomeClass[BenchmarkSamples.SAMPLES];
+        for (int i = 0; i < biomeClasses.length; i++) {
+            biomeClasses[i] = values[random.nextInt(values.length)];
+        }
+    }
+
+    @Benchmark
+    public ProbabilityTier compiledTable() {
+        int i = cursor++ & (BenchmarkSamples.SAMPLES - 1);
+        return table.getTier(ore, ys[i], biomeClasses[i]);
+    }
+
+    @Benchmark
+    public ProbabilityTier referenceBranches() {
+        int i = cursor++ & (BenchmarkSamples.SAMPLES - 1);
+        return OreDistribution.getTier(ore, ys[i], biomeClasses[i]);
+    }
+
+    @Benchmark
+    public boolean compiledPeak() {
+        int i = cursor++ & (BenchmarkSamples.SAMPLES - 1);
+        return table.isAtPeak(ore, ys[i]);
+    }
+
+    @Benchmark
+    public boolean referencePeak() {
+        int i = cursor++ & (BenchmarkSamples.SAMPLES - 1);
+        return OreDistribution.isAtPeak(ore, ys[i]);
+    }
+}
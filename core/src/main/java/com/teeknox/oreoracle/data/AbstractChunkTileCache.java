@@ -0,0 +1,291 @@
+package com.teeknox.oreoracle.data;
+
+import java.util.Arrays;
+
+/**
+ * Size-bounded cache of per-chunk derived data (biome classification, ore counts, predicted
+ * density) keyed by packed chunk or section positions. Subclasses keep the values in a parallel
+ * array indexed by slot: {@link ChunkTileCache} for objects, {@link IntChunkTileCache} for ints.
+ *
+ * Keys live in a primitive {@code long[]} open-addressing table with linear probing, so lookups
+ * neither box the key nor allocate. The table is sized once for {@code maxSize} entries at a load
+ * factor of at most 1/2; when it is full, the least recently used entry is evicted through a
+ * doubly linked list threaded over the slot indices. Removal shifts later entries of the probe
+ * run back instead of leaving tombstones, so probe runs never degrade over a long session.
+ *
+ * {@link #invalidate()} starts a new epoch in O(1): entries from older epochs read as absent and
+ * are reclaimed lazily, either when their key is looked up or, since they are never touched again,
+ * first in line for eviction. This makes dimension switches free regardless of the cache size.
+ *
+ * Not thread-safe; each owner accesses its cache from one thread.
+ */
+public abstract class AbstractChunkTileCache {
+    static final int NONE = -1;
+
+    private final int maxSize;
+    private final int mask;
+    private final long[] keys;
+    private final boolean[] used;
+    private final int[] epochs;
+    // LRU links by slot index; head is the most recently used entry
+    private final int[] newer;
+    private final int[] older;
+    private int head = NONE;
+    private int tail = NONE;
+
+    private int size;
+    private int epoch;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param maxSize Maximum number of entries held, including invalidated ones not yet reclaimed
+     */
+    AbstractChunkTileCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        int capacity = Integer.highestOneBit(Math.max(2, maxSize) * 2 - 1) << 1;
+        this.maxSize = maxSize;
+        this.mask = capacity - 1;
+        this.keys = new long[capacity];
+        this.used = new boolean[capacity];
+        this.epochs = new int[capacity];
+        this.newer = new int[capacity];
+        this.older = new int[capacity];
+    }
+
+    /**
+     * Get the number of slots, i.e. the length subclasses give their value arrays.
+     */
+    final int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Find the slot of a key from the current epoch, mark it most recently used and count the
+     * lookup.
+     *
+     * @return The slot, or {@link #NONE} if the key is absent or invalidated
+     */
+    final int lookup(long key) {
+        int slot = find(key);
+        if (slot == NONE) {
+            misses++;
+            return NONE;
+        }
+        if (epochs[slot] != epoch) {
+            removeSlot(slot);
+            misses++;
+            return NONE;
+        }
+        hits++;
+        moveToHead(slot);
+        return slot;
+    }
+
+    /**
+     * Find or claim the slot for a key in the current epoch and mark it most recently used,
+     * evicting the least recently used entry if the cache is full. The caller stores the value.
+     */
+    final int store(long key) {
+        int slot = find(key);
+        if (slot != NONE) {
+            epochs[slot] = epoch;
+            moveToHead(slot);
+            return slot;
+        }
+
+        if (size >= maxSize) {
+            removeSlot(tail);
+            evictions++;
+        }
+        slot = slotOf(key);
+        while (used[slot]) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        used[slot] = true;
+        epochs[slot] = epoch;
+        linkHead(slot);
+        size++;
+        return slot;
+    }
+
+    /**
+     * Remove the entry for a key.
+     *
+     * @return true if an entry from the current epoch was removed
+     */
+    public boolean remove(long key) {
+        int slot = find(key);
+        if (slot == NONE) {
+            return false;
+        }
+        boolean current = epochs[slot] == epoch;
+        removeSlot(slot);
+        return current;
+    }
+
+    /**
+     * Invalidate every entry in O(1), e.g. when the player changes world or dimension.
+     */
+    public void invalidate() {
+        epoch++;
+    }
+
+    /**
+     * Remove every entry and release the values.
+     */
+    public void clear() {
+        Arrays.fill(used, false);
+        clearValues();
+        head = NONE;
+        tail = NONE;
+        size = 0;
+        epoch++;
+    }
+
+    /**
+     * Get the number of entries held, including invalidated ones not yet reclaimed.
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Number of lookups that found a current entry.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Number of lookups that found no entry or an invalidated one.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Number of entries evicted to make room.
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Reset the hit, miss and eviction counts.
+     */
+    public void resetStats() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    /**
+     * Copy the value of one slot into another while entries shift back after a removal.
+     */
+    abstract void moveValue(int from, int to);
+
+    /**
+     * Release the value of a slot that was just emptied.
+     */
+    abstract void clearValue(int slot);
+
+    /**
+     * Release every value.
+     */
+    abstract void clearValues();
+
+    private int slotOf(long key) {
+        // Fibonacci hashing spreads neighbouring chunk coordinates over the table
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ hash >>> 32) & mask;
+    }
+
+    private int find(long key) {
+        for (int slot = slotOf(key); used[slot]; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Empty a slot and shift later entries of its probe run back so lookups never stop early.
+     */
+    private void removeSlot(int slot) {
+        unlink(slot);
+        size--;
+        int gap = slot;
+        for (int next = (gap + 1) & mask; used[next]; next = (next + 1) & mask) {
+            int home = slotOf(keys[next]);
+            // Move the entry into the gap unless its home lies cyclically in (gap, next]
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                move(next, gap);
+                gap = next;
+            }
+        }
+        used[gap] = false;
+        clearValue(gap);
+    }
+
+    private void move(int from, int to) {
+        keys[to] = keys[from];
+        moveValue(from, to);
+        epochs[to] = epochs[from];
+        newer[to] = newer[from];
+        older[to] = older[from];
+        if (newer[to] != NONE) {
+            older[newer[to]] = to;
+        } else {
+            head = to;
+        }
+        if (older[to] != NONE) {
+            newer[older[to]] = to;
+        } else {
+            tail = to;
+        }
+    }
+
+    private void moveToHead(int slot) {
+        if (slot != head) {
+            unlink(slot);
+            linkHead(slot);
+        }
+    }
+
+    private void linkHead(int slot) {
+        newer[slot] = NONE;
+        older[slot] = head;
+        if (head != NONE) {
+            newer[head] = slot;
+        } else {
+            tail = slot;
+        }
+        head = slot;
+    }
+
+    private void unlink(int slot) {
+        int newerSlot = newer[slot];
+        int olderSlot = older[slot];
+        if (newerSlot != NONE) {
+            older[newerSlot] = olderSlot;
+        } else {
+            head = olderSlot;
+        }
+        if (olderSlot != NONE) {
+            newer[olderSlot] = newerSlot;
+        } else {
+            tail = newerSlot;
+        }
+    }
+}
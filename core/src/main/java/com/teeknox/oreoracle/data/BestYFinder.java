@@ -0,0 +1,96 @@
+package com.teeknox.oreoracle.data;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+
+/**
+ * Finds the Y-level or band where a set of ores is most plentiful together.
+ *
+ * Each ore contributes the share of its total spawns that falls inside the band, so every ore
+ * counts equally no matter how common it is. The ores' {@link OreDensity} prefix sums add up to
+ * one combined prefix array, after which scoring any band is a single subtraction: the best band
+ * of a given height is one linear scan over the ~450 Y-levels.
+ */
+public final class BestYFinder {
+    private static final int MIN_Y = OreTierTable.MIN_Y;
+    private static final int HEIGHT = OreTierTable.MAX_Y - MIN_Y + 1;
+
+    /**
+     * Largest band height that can be requested.
+     */
+    public static final int MAX_WINDOW = HEIGHT;
+
+    private BestYFinder() {}
+
+    /**
+     * A band of Y-levels and its score.
+     *
+     * @param minY     Lowest Y-level of the band
+     * @param maxY     Highest Y-level of the band
+     * @param oreCount Number of ores that were scored
+     * @param score    Sum over the ores of the share of their spawns inside the band
+     */
+    public record Band(int minY, int maxY, int oreCount, double score) {
+        /**
+         * Get the average share of each ore's spawns inside the band, in [0, 1].
+         */
+        public double getAverageShare() {
+            return score / oreCount;
+        }
+    }
+
+    /**
+     * Find the best band of a given height for a set of ores.
+     *
+     * @param ores   Ores to optimize for; ores from other dimensions or without a density model are ignored
+     * @param window Band height in blocks (1 for a single Y-level)
+     * @param nearY  Ties are broken in favor of the band closest to this Y-level
+     * @return The best band, or null if none of the ores spawn in the dimension and biome class
+     */
+    @Nullable
+    public static Band find(OreTierTable table, Collection<Ore> ores, BiomeClass biomeClass, Dimension dimension,
+                            int window, int nearY) {
+        double[] prefix = new double[HEIGHT + 1];
+        int oreCount = 0;
+        for (Ore ore : ores) {
+            OreDensity density = table.getDensity(ore);
+            if (ore.getDimension() != dimension || density == null || density.getWeight(biomeClass) <= 0) {
+                continue;
+            }
+            for (int row = 0; row < HEIGHT; row++) {
+                prefix[row + 1] += density.getMass(MIN_Y, MIN_Y + row, biomeClass);
+            }
+            oreCount++;
+        }
+        if (oreCount == 0) {
+            return null;
+        }
+
+        int size = Math.max(1, Math.min(window, HEIGHT));
+        int bestStart = -1;
+        double bestScore = 0;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int start = 0; start + size <= HEIGHT; start++) {
+            double score = prefix[start + size] - prefix[start];
+            int distance = distance(MIN_Y + start, MIN_Y + start + size - 1, nearY);
+            // Compare with a small tolerance so float noise doesn't split plateaus
+            if (score > bestScore + 1e-9 || (score >= bestScore - 1e-9 && score > 0 && distance < bestDistance)) {
+                bestStart = start;
+                bestScore = score;
+                bestDistance = distance;
+            }
+        }
+        if (bestStart < 0) {
+            return null;
+        }
+        return new Band(MIN_Y + bestStart, MIN_Y + bestStart + size - 1, oreCount, bestScore);
+    }
+
+    private static int distance(int minY, int maxY, int y) {
+        if (y < minY) {
+            return minY - y;
+        }
+        return y > maxY ? y - maxY : 0;
+    }
+}
@@ -0,0 +1,12 @@
+package com.teeknox.oreoracle.data;
+
+/**
+ * Coarse biome classification used by ore distributions.
+ * Only emerald (mountains) and gold (badlands) care about the biome,
+ * so every biome collapses into one of these three classes.
+ */
+public enum BiomeClass {
+    NORMAL,
+    MOUNTAIN,
+    BADLANDS
+}
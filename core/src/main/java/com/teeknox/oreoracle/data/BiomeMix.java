@@ -0,0 +1,116 @@
+package com.teeknox.oreoracle.data;
+
+/**
+ * Share of mountain and badlands biome cells in the area around the player, as found by the biome survey.
+ *
+ * Emerald and badlands gold depend on the biome at each ore's own position, so near a biome border
+ * the single biome at the player's block flips them on and off. Blending keeps the player's biome class
+ * as the baseline and lets a special biome nearby raise an ore's tier, discounted by how little of the
+ * area it covers: a {@link #MAJORITY} keeps the tier, a {@link #SIZEABLE} share costs one step and any
+ * smaller share two (never below RED).
+ *
+ * @param mountain Share of surveyed cells in mountain biomes, in [0, 1]
+ * @param badlands Share of surveyed cells in badlands biomes, in [0, 1]
+ */
+public record BiomeMix(float mountain, float badlands) {
+    /** Nothing surveyed: tiers follow the player's biome class alone. */
+    public static final BiomeMix NONE = new BiomeMix(0, 0);
+
+    /** Share at or above which a nearby special biome counts fully. */
+    public static final float MAJORITY = 0.5f;
+    /** Share at or above which a nearby special biome costs one tier step. */
+    public static final float SIZEABLE = 0.2f;
+
+    private static final BiomeClass[] SPECIAL_CLASSES = {BiomeClass.MOUNTAIN, BiomeClass.BADLANDS};
+    private static final ProbabilityTier[] TIERS = ProbabilityTier.values();
+    private static final Ore[] ORES = Ore.values();
+
+    /**
+     * Build a mix from cell counts.
+     */
+    public static BiomeMix of(int mountainCells, int badlandsCells, int totalCells) {
+        if (totalCells <= 0 || (mountainCells == 0 && badlandsCells == 0)) {
+            return NONE;
+        }
+        return new BiomeMix((float) mountainCells / totalCells, (float) badlandsCells / totalCells);
+    }
+
+    /**
+     * Get the share of a special biome class; NORMAL gets whatever is left.
+     */
+    public float getShare(BiomeClass biomeClass) {
+        return switch (biomeClass) {
+            case MOUNTAIN -> mountain;
+            case BADLANDS -> badlands;
+            case NORMAL -> Math.max(0, 1 - mountain - badlands);
+        };
+    }
+
+    /**
+     * Check if no special biome was found nearby, so blending changes nothing.
+     */
+    public boolean isEmpty() {
+        return mountain <= 0 && badlands <= 0;
+    }
+
+    /**
+     * Get the blended tier of an ore: the better of its tier in the player's biome class and,
+     * for each special class found nearby, its tier there demoted by that class's share.
+     */
+    public ProbabilityTier getTier(OreTierTable table, Ore ore, int y, BiomeClass biomeClass) {
+        ProbabilityTier tier = table.getTier(ore, y, biomeClass);
+        for (BiomeClass nearby : SPECIAL_CLASSES) {
+            float share = getShare(nearby);
+            if (nearby == biomeClass || share <= 0) {
+                continue;
+            }
+            ProbabilityTier nearbyTier = demote(table.getTier(ore, y, nearby), share);
+            if (nearbyTier.ordinal() < tier.ordinal()) {
+                tier = nearbyTier;
+            }
+        }
+        return tier;
+    }
+
+    /**
+     * Get the vanilla ores whose blended tier at a Y-level is one of the given tiers.
+     *
+     * @param tierMask Bitmask of {@link ProbabilityTier} ordinals
+     * @return Bitmask of {@link Ore} ordinals
+     */
+    public long getOreMask(OreTierTable table, int tierMask, int y, BiomeClass biomeClass) {
+        if (isEmpty()) {
+            return table.getOreMask(tierMask, y, biomeClass);
+        }
+        long mask = 0;
+        for (Ore ore : ORES) {
+            if ((tierMask & 1 << getTier(table, ore, y, biomeClass).ordinal()) != 0) {
+                mask |= ore.getMask();
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Get the blended density at a Y-level relative to the densest level, in [0, 1]:
+     * the larger of the density in the player's biome class and each nearby class's density scaled by its share.
+     */
+    public float getFractionOfMax(OreDensity density, int y, BiomeClass biomeClass) {
+        float fraction = density.getFractionOfMax(y, biomeClass);
+        for (BiomeClass nearby : SPECIAL_CLASSES) {
+            float share = getShare(nearby);
+            if (nearby != biomeClass && share > 0) {
+                fraction = Math.max(fraction, share * density.getFractionOfMax(y, nearby));
+            }
+        }
+        return fraction;
+    }
+
+    private static ProbabilityTier demote(ProbabilityTier tier, float share) {
+        if (tier == ProbabilityTier.NONE) {
+            return tier;
+        }
+        int steps = share >= MAJORITY ? 0 : share >= SIZEABLE ? 1 : 2;
+        return TIERS[Math.min(tier.ordinal() + steps, ProbabilityTier.RED.ordinal())];
+    }
+}
@@ -0,0 +1,64 @@
+package com.teeknox.oreoracle.data;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Size-bounded LRU cache of per-chunk objects keyed by packed chunk or section positions
+ * (see {@link AbstractChunkTileCache}). For values that pack into an int, {@link IntChunkTileCache}
+ * avoids boxing them.
+ *
+ * Values must not be null. Not thread-safe; each owner accesses its cache from one thread.
+ *
+ * @param <V> Cached value type
+ */
+public final class ChunkTileCache<V> extends AbstractChunkTileCache {
+    private final Object[] values;
+
+    /**
+     * @param maxSize Maximum number of entries held, including invalidated ones not yet reclaimed
+     */
+    public ChunkTileCache(int maxSize) {
+        super(maxSize);
+        this.values = new Object[capacity()];
+    }
+
+    /**
+     * Get the value for a key from the current epoch and mark it most recently used.
+     *
+     * @return The value, or null if absent or invalidated
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int slot = lookup(key);
+        return slot == NONE ? null : (V) values[slot];
+    }
+
+    /**
+     * Store a value, replacing any previous one for the key and evicting the least recently used
+     * entry if the cache is full.
+     */
+    public void put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value must not be null");
+        }
+        values[store(key)] = value;
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    void clearValue(int slot) {
+        values[slot] = null;
+    }
+
+    @Override
+    void clearValues() {
+        Arrays.fill(values, null);
+    }
+}
@@ -0,0 +1,61 @@
+package com.teeknox.oreoracle.data;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents the three Minecraft dimensions.
+ * Worlds are mapped to dimensions on the client by {@code WorldDimensions}.
+ */
+public enum Dimension {
+    OVERWORLD("minecraft:overworld", -64, 319),
+    NETHER("minecraft:the_nether", 0, 127),
+    END("minecraft:the_end", 0, 255);
+
+    // Cached copy of values() to avoid allocating an array on every lookup
+    private static final Dimension[] VALUES = values();
+
+    private final String id;
+    private final int minY;
+    private final int maxY;
+
+    Dimension(String id, int minY, int maxY) {
+        this.id = id;
+        this.minY = minY;
+        this.maxY = maxY;
+    }
+
+    /**
+     * Get the dimension's world ID, e.g. "minecraft:overworld".
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Get the lowest buildable Y-level of the vanilla dimension.
+     */
+    public int getMinY() {
+        return minY;
+    }
+
+    /**
+     * Get the highest buildable Y-level of the vanilla dimension.
+     */
+    public int getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Get the dimension with the given world ID, or null if it isn't one of the three.
+     */
+    @Nullable
+    public static Dimension fromId(String id) {
+        for (Dimension dim : VALUES) {
+            if (dim.id.equals(id)) {
+                return dim;
+            }
+        }
+
+        return null;
+    }
+}
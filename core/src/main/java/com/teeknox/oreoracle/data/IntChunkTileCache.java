@@ -0,0 +1,53 @@
+package com.teeknox.oreoracle.data;
+
+/**
+ * Size-bounded LRU cache of per-chunk ints keyed by packed chunk or section positions
+ * (see {@link AbstractChunkTileCache}). Values live in a primitive {@code int[]}, so packed counts
+ * or flags are stored and read without boxing.
+ *
+ * Not thread-safe; each owner accesses its cache from one thread.
+ */
+public final class IntChunkTileCache extends AbstractChunkTileCache {
+    private final int[] values;
+
+    /**
+     * @param maxSize Maximum number of entries held, including invalidated ones not yet reclaimed
+     */
+    public IntChunkTileCache(int maxSize) {
+        super(maxSize);
+        this.values = new int[capacity()];
+    }
+
+    /**
+     * Get the value for a key from the current epoch and mark it most recently used.
+     *
+     * @param absent Value returned when the key is absent or invalidated
+     */
+    public int getOrDefault(long key, int absent) {
+        int slot = lookup(key);
+        return slot == NONE ? absent : values[slot];
+    }
+
+    /**
+     * Store a value, replacing any previous one for the key and evicting the least recently used
+     * entry if the cache is full.
+     */
+    public void put(long key, int value) {
+        values[store(key)] = value;
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    void clearValue(int slot) {
+        // Primitive values hold nothing to release
+    }
+
+    @Override
+    void clearValues() {
+        // Primitive values hold nothing to release
+    }
+}
@@ -1,26 +1,42 @@
 package com.teeknox.oreoracle.data;
 
-import net.minecraft.item.Item;
-import net.minecraft.item.Items;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Enum representing all vanilla ores with their distribution properties.
+ * Free of Minecraft classes so it loads without the game registries; icon items and ore
+ * blocks are looked up on the client by {@code OreBlocks}.
  */
 public enum Ore {
-    // Overworld ores (using raw material icons for better visibility at small sizes)
-    COAL("coal", "Coal", Dimension.OVERWORLD, 0, 320, new int[]{96}, true, Items.COAL),
-    COPPER("copper", "Copper", Dimension.OVERWORLD, -16, 112, new int[]{48}, true, Items.RAW_COPPER),
-    IRON("iron", "Iron", Dimension.OVERWORLD, -64, 384, new int[]{16, 232}, true, Items.RAW_IRON), // Both peaks get indicator
-    GOLD("gold", "Gold", Dimension.OVERWORLD, -64, 32, new int[]{-16}, true, Items.RAW_GOLD),
-    DIAMOND("diamond", "Diamond", Dimension.OVERWORLD, -64, 16, new int[]{-59}, true, Items.DIAMOND),
-    REDSTONE("redstone", "Redstone", Dimension.OVERWORLD, -64, 15, new int[]{-59}, true, Items.REDSTONE),
-    LAPIS("lapis", "Lapis", Dimension.OVERWORLD, -64, 64, new int[]{0}, true, Items.LAPIS_LAZULI),
-    EMERALD("emerald", "Emerald", Dimension.OVERWORLD, -16, 320, new int[]{232}, true, Items.EMERALD),
+    // Overworld ores
+    COAL("coal", "Coal", Dimension.OVERWORLD, 0, 320, new int[]{96}, true),
+    COPPER("copper", "Copper", Dimension.OVERWORLD, -16, 112, new int[]{48}, true),
+    IRON("iron", "Iron", Dimension.OVERWORLD, -64, 384, new int[]{16, 232}, true), // Both peaks get indicator
+    GOLD("gold", "Gold", Dimension.OVERWORLD, -64, 32, new int[]{-16}, true),
+    DIAMOND("diamond", "Diamond", Dimension.OVERWORLD, -64, 16, new int[]{-59}, true),
+    REDSTONE("redstone", "Redstone", Dimension.OVERWORLD, -64, 15, new int[]{-59}, true),
+    LAPIS("lapis", "Lapis", Dimension.OVERWORLD, -64, 64, new int[]{0}, true),
+    EMERALD("emerald", "Emerald", Dimension.OVERWORLD, -16, 320, new int[]{232}, true),
 
     // Nether ores (uniform distribution - no peaks, entire range is equally good)
-    NETHER_QUARTZ("nether_quartz", "Nether Quartz", Dimension.NETHER, 10, 117, new int[]{}, false, Items.QUARTZ),
-    NETHER_GOLD("nether_gold", "Nether Gold", Dimension.NETHER, 10, 117, new int[]{}, false, Items.GOLD_NUGGET),
-    ANCIENT_DEBRIS("ancient_debris", "Ancient Debris", Dimension.NETHER, 8, 119, new int[]{15}, true, Items.NETHERITE_SCRAP);
+    NETHER_QUARTZ("nether_quartz", "Nether Quartz", Dimension.NETHER, 10, 117, new int[]{}, false),
+    NETHER_GOLD("nether_gold", "Nether Gold", Dimension.NETHER, 10, 117, new int[]{}, false),
+    ANCIENT_DEBRIS("ancient_debris", "Ancient Debris", Dimension.NETHER, 8, 119, new int[]{15}, true);
+
+    // Cached copy of values() to avoid allocating an array on every lookup
+    private static final Ore[] VALUES = values();
+
+    // Bitmask of ores (bit = ordinal) per dimension ordinal
+    private static final long[] DIMENSION_MASKS = new long[Dimension.values().length];
+
+    static {
+        if (VALUES.length > Long.SIZE) {
+            throw new IllegalStateException("Ore bitmasks hold at most " + Long.SIZE + " ores");
+        }
+        for (Ore ore : VALUES) {
+            DIMENSION_MASKS[ore.dimension.ordinal()] |= ore.getMask();
+        }
+    }
 
     private final String id;
     private final String displayName;
@@ -29,10 +45,9 @@ public enum Ore {
     private final int maxY;
     private final int[] peakYLevels;
     private final boolean hasPeakIndicator;
-    private final Item iconItem;
 
     Ore(String id, String displayName, Dimension dimension, int minY, int maxY,
-        int[] peakYLevels, boolean hasPeakIndicator, Item iconItem) {
+        int[] peakYLevels, boolean hasPeakIndicator) {
         this.id = id;
         this.displayName = displayName;
         this.dimension = dimension;
@@ -40,7 +55,6 @@ public enum Ore {
         this.maxY = maxY;
         this.peakYLevels = peakYLevels;
         this.hasPeakIndicator = hasPeakIndicator;
-        this.iconItem = iconItem;
     }
 
     public String getId() {
@@ -72,10 +86,39 @@ public enum Ore {
     }
 
     /**
-     * Get the item to use for icon display (raw material form).
+     * Get this ore's bit in ore bitmasks.
+     */
+    public long getMask() {
+        return 1L << ordinal();
+    }
+
+    /**
+     * Get the bitmask of the ores found in a dimension.
+     *
+     * @param dimension The dimension, or null for one without vanilla ores (e.g. a modded dimension)
+     */
+    public static long getDimensionMask(@Nullable Dimension dimension) {
+        return dimension != null ? DIMENSION_MASKS[dimension.ordinal()] : 0;
+    }
+
+    /**
+     * Get the ore for a bit index in an ore bitmask.
+     */
+    public static Ore fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Get the ore with the given ID, or null if it isn't a vanilla ore.
      */
-    public Item getIconItem() {
-        return iconItem;
+    @Nullable
+    public static Ore fromId(String id) {
+        for (Ore ore : VALUES) {
+            if (ore.id.equals(id)) {
+                return ore;
+            }
+        }
+        return null;
     }
 
     /**
@@ -0,0 +1,169 @@
+package com.teeknox.oreoracle.data;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data-driven distribution definition for a single ore.
+ * Loaded from assets/[namespace]/ore_distributions/*.json and compiled into an {@link OreTierTable}.
+ *
+ * Tier evaluation at a Y-level:
+ * - NONE if the definition requires a biome class and the current biome doesn't match
+ * - the tier of the first band containing the Y-level (bands may be restricted to a biome class,
+ *   and biome-restricted bands may extend beyond the ore's base range, e.g. badlands gold)
+ * - the density-quantile tier if the definition has placements (see {@link OreDensity})
+ * - the default tier if the Y-level is inside [minY, maxY]
+ * - NONE otherwise
+ */
+public class OreDefinition {
+    private String ore;
+    private int minY;
+    private int maxY;
+    private int[] peaks = new int[0];
+    @Nullable
+    private BiomeClass biome;
+    private List<Band> bands = new ArrayList<>();
+    private List<OrePlacement> placements = new ArrayList<>();
+    private ProbabilityTier defaultTier = ProbabilityTier.RED;
+
+    // Compiled from placements during validation
+    @Nullable
+    private transient OreDensity density;
+
+    // Hidden default constructor for GSON
+    private OreDefinition() {}
+
+    /**
+     * Create a definition from placements read out of the game's placed features, and validate it.
+     *
+     * @param biome Biome class every placement requires, or null if the ore spawns in any biome
+     */
+    public static OreDefinition of(String ore, int minY, int maxY, int[] peaks, @Nullable BiomeClass biome,
+                                   List<OrePlacement> placements) {
+        OreDefinition definition = new OreDefinition();
+        definition.ore = ore;
+        definition.minY = minY;
+        definition.maxY = maxY;
+        definition.peaks = peaks;
+        definition.biome = biome;
+        definition.placements = new ArrayList<>(placements);
+        definition.validate();
+        return definition;
+    }
+
+    /**
+     * Get the ore ID this definition applies to (matches {@link Ore#getId()} for vanilla ores).
+     */
+    public String getOre() {
+        return ore;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
+    public int getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Get the spawn-density model, or null if the definition has no placements.
+     */
+    @Nullable
+    public OreDensity getDensity() {
+        return density;
+    }
+
+    /**
+     * Get the probability tier at the given Y-level in a biome class.
+     */
+    public ProbabilityTier getTier(int y, BiomeClass biomeClass) {
+        if (biome != null && biome != biomeClass) {
+            return ProbabilityTier.NONE;
+        }
+        for (Band band : bands) {
+            if (band.matches(y, biomeClass)) {
+                return band.tier;
+            }
+        }
+        if (density != null) {
+            return density.getTier(y, biomeClass);
+        }
+        if (y < minY || y > maxY) {
+            return ProbabilityTier.NONE;
+        }
+        return defaultTier;
+    }
+
+    /**
+     * Check if the Y-level is within ±1 of one of the definition's peaks.
+     */
+    public boolean isAtPeak(int y) {
+        for (int peakY : peaks) {
+            if (y >= peakY - 1 && y <= peakY + 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Validate a freshly deserialized definition, fill in missing collections and compile its density model.
+     *
+     * @return An error message, or null if the definition is valid
+     */
+    @Nullable
+    public String validate() {
+        if (ore == null || ore.isEmpty()) {
+            return "missing ore id";
+        }
+        if (minY > maxY) {
+            return "minY is greater than maxY";
+        }
+        if (peaks == null) {
+            peaks = new int[0];
+        }
+        if (bands == null) {
+            bands = new ArrayList<>();
+        }
+        if (placements == null) {
+            placements = new ArrayList<>();
+        }
+        if (defaultTier == null) {
+            defaultTier = ProbabilityTier.RED;
+        }
+        for (Band band : bands) {
+            if (band == null || band.tier == null) {
+                return "band without a tier";
+            }
+            if (band.minY > band.maxY) {
+                return "band minY is greater than maxY";
+            }
+        }
+        for (OrePlacement placement : placements) {
+            String error = placement != null ? placement.validate() : "empty placement";
+            if (error != null) {
+                return error;
+            }
+        }
+        density = OreDensity.compile(placements, biome, minY, maxY);
+        return null;
+    }
+
+    /**
+     * A Y-range with a fixed tier, optionally restricted to a biome class.
+     */
+    private static class Band {
+        private ProbabilityTier tier;
+        private int minY;
+        private int maxY;
+        @Nullable
+        private BiomeClass biome;
+
+        private boolean matches(int y, BiomeClass biomeClass) {
+            return y >= minY && y <= maxY && (biome == null || biome == biomeClass);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.teeknox.oreoracle.data;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Continuous spawn-height model for one ore, compiled from its {@link OrePlacement}s.
+ * For every biome class, stores the normalized per-Y density (a PDF over Y-levels) and its
+ * prefix sums, so point lookups and range-mass queries are O(1) array loads.
+ *
+ * Tiers are derived from density quantiles: the densest Y-levels that together hold
+ * {@link #GREEN_MASS} of the ore are GREEN, the next levels up to {@link #YELLOW_MASS} are YELLOW,
+ * and any other level with non-zero density is RED. Levels with equal density always share a tier,
+ * so uniform distributions are GREEN throughout.
+ *
+ * Covers the same Y-range as {@link OreTierTable}; immutable once compiled.
+ */
+public final class OreDensity {
+    /** Share of the ore's mass found at GREEN levels. */
+    public static final double GREEN_MASS = 0.5;
+    /** Share of the ore's mass found at GREEN or YELLOW levels. */
+    public static final double YELLOW_MASS = 0.85;
+
+    private static final int MIN_Y = OreTierTable.MIN_Y;
+    private static final int HEIGHT = OreTierTable.MAX_Y - MIN_Y + 1;
+    private static final BiomeClass[] BIOME_CLASSES = BiomeClass.values();
+
+    // Per biome class ordinal; classes with identical placements share one column
+    private final Column[] columns;
+
+    private OreDensity(Column[] columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Compile a density model.
+     * Placements apply within [minY, maxY]; biome-restricted placements may extend beyond it.
+     *
+     * @param required Biome class the ore requires, or null if it spawns everywhere
+     * @return The model, or null if there are no placements
+     */
+    @Nullable
+    static OreDensity compile(List<OrePlacement> placements, @Nullable BiomeClass required, int minY, int maxY) {
+        if (placements.isEmpty()) {
+            return null;
+        }
+
+        boolean biomeSpecific = required != null;
+        for (OrePlacement placement : placements) {
+            biomeSpecific |= placement.getBiome() != null;
+        }
+
+        Column[] columns = new Column[BIOME_CLASSES.length];
+        Column shared = biomeSpecific ? null : Column.build(placements, null, minY, maxY);
+        for (BiomeClass biomeClass : BIOME_CLASSES) {
+            if (shared != null) {
+                columns[biomeClass.ordinal()] = shared;
+            } else if (required != null && required != biomeClass) {
+                columns[biomeClass.ordinal()] = Column.EMPTY;
+            } else {
+                columns[biomeClass.ordinal()] = Column.build(placements, biomeClass, minY, maxY);
+            }
+        }
+        return new OreDensity(columns);
+    }
+
+    /**
+     * Get the normalized density (share of the ore's mass) at a Y-level.
+     */
+    public double getDensity(int y, BiomeClass biomeClass) {
+        int row = y - MIN_Y;
+        return row < 0 || row >= HEIGHT ? 0 : columns[biomeClass.ordinal()].density[row];
+    }
+
+    /**
+     * Get the density at a Y-level relative to the densest level, in [0, 1].
+     */
+    public float getFractionOfMax(int y, BiomeClass biomeClass) {
+        Column column = columns[biomeClass.ordinal()];
+        int row = y - MIN_Y;
+        if (row < 0 || row >= HEIGHT || column.max <= 0) {
+            return 0;
+        }
+        return column.density[row] / column.max;
+    }
+
+    /**
+     * Get the share of the ore's mass between two Y-levels (inclusive).
+     */
+    public double getMass(int fromY, int toY, BiomeClass biomeClass) {
+        int from = Math.max(fromY - MIN_Y, 0);
+        int to = Math.min(toY - MIN_Y, HEIGHT - 1);
+        if (from > to) {
+            return 0;
+        }
+        double[] prefix = columns[biomeClass.ordinal()].prefix;
+        return prefix[to + 1] - prefix[from];
+    }
+
+    /**
+     * Get the expected number of ore blocks per chunk in a biome class (count × size of all placements).
+     */
+    public double getWeight(BiomeClass biomeClass) {
+        return columns[biomeClass.ordinal()].weight;
+    }
+
+    /**
+     * Get the quantile-derived tier at a Y-level.
+     */
+    public ProbabilityTier getTier(int y, BiomeClass biomeClass) {
+        int row = y - MIN_Y;
+        if (row < 0 || row >= HEIGHT) {
+            return ProbabilityTier.NONE;
+        }
+        Column column = columns[biomeClass.ordinal()];
+        return tierOf(column.density[row], column.greenThreshold, column.yellowThreshold);
+    }
+
+    /**
+     * Compute the maximum and the GREEN/YELLOW density thresholds of a normalized distribution.
+     *
+     * @param density Per-level shares of the total mass (summing to 1)
+     * @return {max, greenThreshold, yellowThreshold}
+     */
+    public static float[] tierThresholds(float[] density) {
+        float[] sorted = density.clone();
+        Arrays.sort(sorted);
+
+        // Walk levels from densest to sparsest until each quantile's mass is covered
+        float green = Float.POSITIVE_INFINITY;
+        float yellow = Float.POSITIVE_INFINITY;
+        double cumulative = 0;
+        for (int i = sorted.length - 1; i >= 0 && sorted[i] > 0; i--) {
+            cumulative += sorted[i];
+            if (green == Float.POSITIVE_INFINITY && cumulative >= GREEN_MASS) {
+                green = sorted[i];
+            }
+            if (cumulative >= YELLOW_MASS) {
+                yellow = sorted[i];
+                break;
+            }
+        }
+        return new float[]{sorted[sorted.length - 1], green, Math.min(yellow, green)};
+    }
+
+    /**
+     * Get the quantile tier of a density value given thresholds from {@link #tierThresholds}.
+     */
+    public static ProbabilityTier tierOf(float density, float greenThreshold, float yellowThreshold) {
+        if (density <= 0) {
+            return ProbabilityTier.NONE;
+        }
+        if (density >= greenThreshold) {
+            return ProbabilityTier.GREEN;
+        }
+        if (density >= yellowThreshold) {
+            return ProbabilityTier.YELLOW;
+        }
+        return ProbabilityTier.RED;
+    }
+
+    /**
+     * Density, prefix sums and tier thresholds for one biome class.
+     */
+    private static final class Column {
+        static final Column EMPTY = new Column(new float[HEIGHT], new double[HEIGHT + 1], 0);
+
+        final float[] density;
+        final double[] prefix;
+        final double weight;
+        final float max;
+        final float greenThreshold;
+        final float yellowThreshold;
+
+        private Column(float[] density, double[] prefix, double weight) {
+            this.density = density;
+            this.prefix = prefix;
+            this.weight = weight;
+
+            float[] thresholds = tierThresholds(density);
+            this.max = thresholds[0];
+            this.greenThreshold = thresholds[1];
+            this.yellowThreshold = thresholds[2];
+        }
+
+        static Column build(List<OrePlacement> placements, @Nullable BiomeClass biomeClass, int minY, int maxY) {
+            double[] mass = new double[HEIGHT];
+            double[] scratch = new double[HEIGHT];
+            for (OrePlacement placement : placements) {
+                if (biomeClass != null && !placement.appliesTo(biomeClass)) {
+                    continue;
+                }
+                Arrays.fill(scratch, 0);
+                placement.addTo(scratch, MIN_Y);
+                // Only biome-restricted placements may reach beyond the ore's base range
+                for (int row = 0; row < HEIGHT; row++) {
+                    int y = MIN_Y + row;
+                    if (placement.getBiome() != null || (y >= minY && y <= maxY)) {
+                        mass[row] += scratch[row];
+                    }
+                }
+            }
+
+            double total = 0;
+            for (double value : mass) {
+                total += value;
+            }
+            if (total <= 0) {
+                return EMPTY;
+            }
+
+            float[] density = new float[HEIGHT];
+            double[] prefix = new double[HEIGHT + 1];
+            for (int row = 0; row < HEIGHT; row++) {
+                density[row] = (float) (mass[row] / total);
+                prefix[row + 1] = prefix[row] + mass[row] / total;
+            }
+            return new Column(density, prefix, total);
+        }
+    }
+}
@@ -1,8 +1,5 @@
 package com.teeknox.oreoracle.data;
 
-import net.minecraft.util.Identifier;
-import org.jetbrains.annotations.Nullable;
-
 /**
  * Calculates probability tiers for ores based on Y-level and biome.
  * All tier boundaries are pre-computed based on ore distribution charts from CLAUDE.md.
@@ -10,23 +7,24 @@ import org.jetbrains.annotations.Nullable;
 public class OreDistribution {
 
     /**
-     * Get the probability tier for an ore at the given Y-level.
+     * Get the probability tier for an ore at the given Y-level in a biome class.
+     * This is the reference implementation that {@link OreTierTable} is compiled from.
      *
-     * @param ore   The ore to check
-     * @param y     The Y-level
-     * @param biome The current biome (nullable, used for emerald/gold special handling)
+     * @param ore        The ore to check
+     * @param y          The Y-level
+     * @param biomeClass The classified biome (used for emerald/gold special handling)
      * @return The probability tier for the ore at this Y-level
      */
-    public static ProbabilityTier getTier(Ore ore, int y, @Nullable Identifier biome) {
+    public static ProbabilityTier getTier(Ore ore, int y, BiomeClass biomeClass) {
         return switch (ore) {
             case COAL -> getCoalTier(y);
             case COPPER -> getCopperTier(y);
             case IRON -> getIronTier(y);
-            case GOLD -> getGoldTier(y, biome);
+            case GOLD -> getGoldTier(y, biomeClass);
             case DIAMOND -> getDiamondTier(y);
             case REDSTONE -> getRedstoneTier(y);
             case LAPIS -> getLapisTier(y);
-            case EMERALD -> getEmeraldTier(y, biome);
+            case EMERALD -> getEmeraldTier(y, biomeClass);
             case NETHER_QUARTZ -> getNetherQuartzTier(y);
             case NETHER_GOLD -> getNetherGoldTier(y);
             case ANCIENT_DEBRIS -> getAncientDebrisTier(y);
@@ -147,9 +145,9 @@ public class OreDistribution {
      * - RED at Y 8-32
      * - Badlands special: GREEN for any Y > 32
      */
-    private static ProbabilityTier getGoldTier(int y, @Nullable Identifier biome) {
+    private static ProbabilityTier getGoldTier(int y, BiomeClass biomeClass) {
         // Badlands special case: GREEN for any Y > 32
-        if (BiomeChecker.isBadlandsBiome(biome) && y > 32) {
+        if (biomeClass == BiomeClass.BADLANDS && y > 32) {
             return ProbabilityTier.GREEN;
         }
 
@@ -237,9 +235,9 @@ public class OreDistribution {
      * - YELLOW at Y 100-180 (transitional)
      * - RED at Y -16 to 100 (far from peak)
      */
-    private static ProbabilityTier getEmeraldTier(int y, @Nullable Identifier biome) {
+    private static ProbabilityTier getEmeraldTier(int y, BiomeClass biomeClass) {
         // Emerald ONLY spawns in mountain biomes
-        if (!BiomeChecker.isMountainBiome(biome)) {
+        if (biomeClass != BiomeClass.MOUNTAIN) {
             return ProbabilityTier.NONE;
         }
 
@@ -0,0 +1,82 @@
+package com.teeknox.oreoracle.data;
+
+/**
+ * Probability filter rules for deciding which ores appear in the HUD.
+ * Besides the per-ore check, the rules are available as bitmasks: a filter maps to the set of tiers
+ * it shows, and combined with {@link OreTierTable#getOreMask} yields every visible ore at a Y-level at once.
+ */
+public final class OreFilter {
+
+    private OreFilter() {}
+
+    /**
+     * Check if an ore should be displayed.
+     *
+     * @param filter  The active probability filter (NONE = "Specific" mode)
+     * @param tracked Whether the ore is individually tracked
+     * @param tier    The ore's tier at the current Y-level
+     * @return true if the ore should be displayed
+     */
+    public static boolean shouldDisplay(ProbabilityTier filter, boolean tracked, ProbabilityTier tier) {
+        // NONE filter = "Specific" mode - ONLY show tracked ores
+        if (filter == ProbabilityTier.NONE) {
+            return tracked;
+        }
+
+        // For other filters, tracked ores are ignored (filter takes precedence)
+        // Don't show if no probability at this Y-level
+        if (tier == ProbabilityTier.NONE) {
+            return false;
+        }
+
+        // Check against filter (cumulative)
+        return switch (filter) {
+            case GREEN -> tier == ProbabilityTier.GREEN;
+            case YELLOW -> tier == ProbabilityTier.GREEN || tier == ProbabilityTier.YELLOW;
+            case RED -> tier != ProbabilityTier.NONE;
+            case NONE -> false; // Already handled above, but needed for completeness
+        };
+    }
+
+    /**
+     * Get the tiers a filter shows, as a bitmask of {@link ProbabilityTier} ordinals.
+     * Returns 0 for the NONE filter ("Specific" mode), which shows tracked ores instead.
+     */
+    public static int visibleTiers(ProbabilityTier filter) {
+        return switch (filter) {
+            case GREEN -> 1 << ProbabilityTier.GREEN.ordinal();
+            case YELLOW -> 1 << ProbabilityTier.GREEN.ordinal() | 1 << ProbabilityTier.YELLOW.ordinal();
+            case RED -> 1 << ProbabilityTier.GREEN.ordinal() | 1 << ProbabilityTier.YELLOW.ordinal()
+                    | 1 << ProbabilityTier.RED.ordinal();
+            case NONE -> 0;
+        };
+    }
+
+    /**
+     * Get the ores to display at a Y-level, as a bitmask of {@link Ore} ordinals.
+     * Equivalent to {@link #shouldDisplay} for every vanilla ore.
+     *
+     * @param visibleTiers Tiers shown by the active filter (see {@link #visibleTiers})
+     * @param trackedMask  Individually tracked ores
+     */
+    public static long displayMask(int visibleTiers, long trackedMask, OreTierTable table, int y,
+                                   BiomeClass biomeClass) {
+        if (visibleTiers == 0) {
+            return trackedMask;
+        }
+        return table.getOreMask(visibleTiers, y, biomeClass);
+    }
+
+    /**
+     * Get the ores to display at a Y-level with tiers blended from the surrounding biomes.
+     *
+     * @param mix Biome shares around the player (see {@link BiomeMix#getOreMask})
+     */
+    public static long displayMask(int visibleTiers, long trackedMask, OreTierTable table, int y,
+                                   BiomeClass biomeClass, BiomeMix mix) {
+        if (visibleTiers == 0) {
+            return trackedMask;
+        }
+        return mix.getOreMask(table, visibleTiers, y, biomeClass);
+    }
+}
@@ -0,0 +1,131 @@
+package com.teeknox.oreoracle.data;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * One vanilla-style ore placement: a height provider plus how many veins of which size it places.
+ * Mirrors the uniform and trapezoid height providers used by the vanilla placed features,
+ * so their exact spawn-height distribution can be reproduced.
+ *
+ * Weight of the placement = count × size (expected blocks per chunk, ignoring air exposure).
+ */
+public class OrePlacement {
+    private Shape shape = Shape.UNIFORM;
+    private int minY;
+    private int maxY;
+    private int plateau;
+    private double count = 1;
+    private double size = 1;
+    @Nullable
+    private BiomeClass biome;
+
+    // Hidden default constructor for GSON
+    private OrePlacement() {}
+
+    /**
+     * Create a placement from values read out of a placed feature.
+     *
+     * @param plateau Width of the trapezoid's flat top; ignored for uniform placements
+     * @param count   Average veins per chunk
+     * @param size    Blocks per vein
+     * @param biome   Biome class the placement is limited to, or null for every biome
+     */
+    public OrePlacement(Shape shape, int minY, int maxY, int plateau, double count, double size,
+                        @Nullable BiomeClass biome) {
+        this.shape = shape;
+        this.minY = minY;
+        this.maxY = maxY;
+        this.plateau = plateau;
+        this.count = count;
+        this.size = size;
+        this.biome = biome;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
+    public int getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Get the biome class this placement is restricted to, or null if it applies everywhere.
+     */
+    @Nullable
+    public BiomeClass getBiome() {
+        return biome;
+    }
+
+    boolean appliesTo(BiomeClass biomeClass) {
+        return biome == null || biome == biomeClass;
+    }
+
+    /**
+     * Add this placement's weighted probability mass to per-Y rows.
+     *
+     * @param rows    Mass per Y-level, indexed by {@code y - rowMinY}
+     * @param rowMinY Y-level of row 0
+     */
+    void addTo(double[] rows, int rowMinY) {
+        double weight = count * size;
+        int range = maxY - minY;
+
+        if (shape == Shape.UNIFORM || plateau >= range) {
+            // nextBetween(minY, maxY): every level equally likely
+            double perLevel = weight / (range + 1);
+            for (int y = minY; y <= maxY; y++) {
+                add(rows, rowMinY, y, perLevel);
+            }
+            return;
+        }
+
+        // Vanilla trapezoid: minY + nextBetween(0, high) + nextBetween(0, low)
+        int low = (range - plateau) / 2;
+        int high = range - low;
+        double perOutcome = weight / ((double) (high + 1) * (low + 1));
+        for (int offset = 0; offset <= range; offset++) {
+            int ways = Math.min(offset, low) - Math.max(0, offset - high) + 1;
+            if (ways > 0) {
+                add(rows, rowMinY, minY + offset, ways * perOutcome);
+            }
+        }
+    }
+
+    private static void add(double[] rows, int rowMinY, int y, double mass) {
+        int row = y - rowMinY;
+        if (row >= 0 && row < rows.length) {
+            rows[row] += mass;
+        }
+    }
+
+    /**
+     * Validate a freshly deserialized placement.
+     *
+     * @return An error message, or null if the placement is valid
+     */
+    @Nullable
+    String validate() {
+        if (shape == null) {
+            return "placement without a shape";
+        }
+        if (minY > maxY) {
+            return "placement minY is greater than maxY";
+        }
+        if (plateau < 0) {
+            return "placement plateau is negative";
+        }
+        if (count < 0 || size < 0) {
+            return "placement count and size must not be negative";
+        }
+        return null;
+    }
+
+    /**
+     * Height provider shape.
+     */
+    public enum Shape {
+        UNIFORM,
+        TRAPEZOID
+    }
+}
@@ -0,0 +1,250 @@
+package com.teeknox.oreoracle.data;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Precompiled lookup tables for ore probability tiers.
+ * For every ore and biome class, the tier at each Y-level is stored as a dense
+ * byte array of {@link ProbabilityTier} ordinals indexed by {@code y - MIN_Y},
+ * and peak levels are stored as a bitmap over the same index.
+ * This turns a tier lookup into a single array load instead of a switch and branch chain.
+ * Each (biome class, Y-level, tier) also has a bitmask of the ores in that tier,
+ * so every ore matching a set of tiers is found with a few ORs.
+ * Ores defined with placements also carry their {@link OreDensity} model.
+ *
+ * Tables are immutable. The active table is swapped atomically when ore distribution
+ * resources are reloaded or a world's placed features have been compiled; world definitions
+ * override resource definitions, and ores without any definition use the built-in {@link OreDistribution}.
+ * Only the {@link Ore}s are compiled: the HUD, selector and tracking are keyed by them,
+ * so definitions for any other ore ID are left out.
+ */
+public final class OreTierTable {
+    /** Lowest Y-level covered by the table (overworld build limit). */
+    public static final int MIN_Y = -64;
+    /** Highest Y-level covered by the table (top of the iron distribution). */
+    public static final int MAX_Y = 384;
+
+    private static final int HEIGHT = MAX_Y - MIN_Y + 1;
+    private static final ProbabilityTier[] TIERS = ProbabilityTier.values();
+    private static final BiomeClass[] BIOME_CLASSES = BiomeClass.values();
+    private static final Ore[] ORES = Ore.values();
+
+    private static final OreTierTable BUILT_IN = compile(List.of());
+    private static volatile OreTierTable active = BUILT_IN;
+
+    // Definitions the active table is compiled from
+    private static List<OreDefinition> resourceDefinitions = List.of();
+    private static List<OreDefinition> worldDefinitions = List.of();
+
+    // Uncompiled sources, used for Y-levels outside the table
+    private final TierSource[] sources;
+    // [ore ordinal][biome class ordinal][y - MIN_Y] -> tier ordinal
+    private final byte[][][] tiers;
+    // [ore ordinal][(y - MIN_Y) >> 6] -> bit set if at peak
+    private final long[][] peaks;
+    // [ore ordinal] -> density model, or null if the ore has no placements
+    private final OreDensity[] densities;
+    // [((biome class ordinal * HEIGHT) + y - MIN_Y) * tier count + tier ordinal] -> bitmask of Ore ordinals
+    private final long[] oreMasks;
+
+    private OreTierTable(TierSource[] sources, byte[][][] tiers, long[][] peaks, OreDensity[] densities,
+                         long[] oreMasks) {
+        this.sources = sources;
+        this.tiers = tiers;
+        this.peaks = peaks;
+        this.densities = densities;
+        this.oreMasks = oreMasks;
+    }
+
+    /**
+     * Get the active tier table.
+     */
+    public static OreTierTable get() {
+        return active;
+    }
+
+    /**
+     * Get the table compiled purely from the built-in {@link OreDistribution}.
+     */
+    public static OreTierTable builtIn() {
+        return BUILT_IN;
+    }
+
+    /**
+     * Replace the active tier table.
+     */
+    public static void install(OreTierTable table) {
+        active = table;
+    }
+
+    /**
+     * Set the definitions loaded from ore distribution resources and recompile the active table.
+     */
+    public static synchronized void setResourceDefinitions(List<OreDefinition> definitions) {
+        resourceDefinitions = List.copyOf(definitions);
+        recompile();
+    }
+
+    /**
+     * Set the definitions compiled from the current world's placed features and recompile the active table.
+     * Pass an empty list to fall back to resource definitions (e.g. on disconnect).
+     */
+    public static synchronized void setWorldDefinitions(List<OreDefinition> definitions) {
+        worldDefinitions = List.copyOf(definitions);
+        recompile();
+    }
+
+    private static void recompile() {
+        List<OreDefinition> definitions = new ArrayList<>(resourceDefinitions);
+        definitions.addAll(worldDefinitions);
+        install(compile(definitions));
+    }
+
+    /**
+     * Get the probability tier for an ore at the given Y-level.
+     */
+    public ProbabilityTier getTier(Ore ore, int y, BiomeClass biomeClass) {
+        int row = y - MIN_Y;
+        if (row < 0 || row >= HEIGHT) {
+            // Y-levels outside the table are evaluated from the uncompiled source
+            return sources[ore.ordinal()].getTier(y, biomeClass);
+        }
+        return TIERS[tiers[ore.ordinal()][biomeClass.ordinal()][row]];
+    }
+
+    /**
+     * Get the ores whose tier at a Y-level is one of the given tiers.
+     *
+     * @param tierMask Bitmask of {@link ProbabilityTier} ordinals
+     * @return Bitmask of {@link Ore} ordinals
+     */
+    public long getOreMask(int tierMask, int y, BiomeClass biomeClass) {
+        int row = y - MIN_Y;
+        long mask = 0;
+        if (row < 0 || row >= HEIGHT) {
+            for (Ore ore : ORES) {
+                if ((tierMask & 1 << getTier(ore, y, biomeClass).ordinal()) != 0) {
+                    mask |= ore.getMask();
+                }
+            }
+            return mask;
+        }
+        int base = (biomeClass.ordinal() * HEIGHT + row) * TIERS.length;
+        for (int bits = tierMask; bits != 0; bits &= bits - 1) {
+            mask |= oreMasks[base + Integer.numberOfTrailingZeros(bits)];
+        }
+        return mask;
+    }
+
+    /**
+     * Check if the Y-level is a peak level for the given ore (within ±1).
+     */
+    public boolean isAtPeak(Ore ore, int y) {
+        int row = y - MIN_Y;
+        if (row < 0 || row >= HEIGHT) {
+            return sources[ore.ordinal()].isAtPeak(y);
+        }
+        return (peaks[ore.ordinal()][row >> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * Get the spawn-density model for an ore, or null if it has none.
+     */
+    @Nullable
+    public OreDensity getDensity(Ore ore) {
+        return densities[ore.ordinal()];
+    }
+
+    /**
+     * Compile a table from loaded ore definitions.
+     * Later definitions for the same ore ID replace earlier ones, and definitions whose ID is not
+     * one of the {@link Ore}s are ignored. Ores without a definition fall back to {@link OreDistribution}.
+     */
+    public static OreTierTable compile(List<OreDefinition> definitions) {
+        TierSource[] sources = new TierSource[ORES.length];
+        for (Ore ore : ORES) {
+            sources[ore.ordinal()] = new BuiltInSource(ore);
+        }
+        for (OreDefinition definition : definitions) {
+            Ore ore = Ore.fromId(definition.getOre());
+            if (ore != null) {
+                sources[ore.ordinal()] = new DefinitionSource(definition);
+            }
+        }
+
+        byte[][][] tiers = new byte[ORES.length][BIOME_CLASSES.length][HEIGHT];
+        long[][] peaks = new long[ORES.length][(HEIGHT + 63) >> 6];
+        OreDensity[] densities = new OreDensity[ORES.length];
+        long[] oreMasks = new long[BIOME_CLASSES.length * HEIGHT * TIERS.length];
+
+        for (Ore ore : ORES) {
+            int index = ore.ordinal();
+            TierSource source = sources[index];
+            densities[index] = source.getDensity();
+
+            for (BiomeClass biomeClass : BIOME_CLASSES) {
+                byte[] column = tiers[index][biomeClass.ordinal()];
+                for (int row = 0; row < HEIGHT; row++) {
+                    column[row] = (byte) source.getTier(MIN_Y + row, biomeClass).ordinal();
+                    oreMasks[(biomeClass.ordinal() * HEIGHT + row) * TIERS.length + column[row]] |= ore.getMask();
+                }
+            }
+            for (int row = 0; row < HEIGHT; row++) {
+                if (source.isAtPeak(MIN_Y + row)) {
+                    peaks[index][row >> 6] |= 1L << row;
+                }
+            }
+        }
+
+        return new OreTierTable(sources, tiers, peaks, densities, oreMasks);
+    }
+
+    /**
+     * Uncompiled tier evaluation for one ore.
+     */
+    private interface TierSource {
+        ProbabilityTier getTier(int y, BiomeClass biomeClass);
+
+        boolean isAtPeak(int y);
+
+        @Nullable
+        OreDensity getDensity();
+    }
+
+    private record BuiltInSource(Ore ore) implements TierSource {
+        @Override
+        public ProbabilityTier getTier(int y, BiomeClass biomeClass) {
+            return OreDistribution.getTier(ore, y, biomeClass);
+        }
+
+        @Override
+        public boolean isAtPeak(int y) {
+            return OreDistribution.isAtPeak(ore, y);
+        }
+
+        @Override
+        public OreDensity getDensity() {
+            return null;
+        }
+    }
+
+    private record DefinitionSource(OreDefinition definition) implements TierSource {
+        @Override
+        public ProbabilityTier getTier(int y, BiomeClass biomeClass) {
+            return definition.getTier(y, biomeClass);
+        }
+
+        @Override
+        public boolean isAtPeak(int y) {
+            return definition.isAtPeak(y);
+        }
+
+        @Override
+        public OreDensity getDensity() {
+            return definition.getDensity();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.teeknox.oreoracle.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Checks band scoring, tie-breaking and which ores take part, on a table with hand-made densities.
+ */
+class BestYFinderTest {
+    private static final double EPSILON = 1e-6;
+
+    // Diamond evenly over 17 levels, coal evenly over 16 levels, emerald only in mountains
+    private final OreTierTable table = OreTierTable.compile(List.of(
+            uniform(Ore.DIAMOND, -64, -48, null),
+            uniform(Ore.COAL, 0, 15, null),
+            uniform(Ore.EMERALD, 100, 119, BiomeClass.MOUNTAIN)));
+
+    @Test
+    void singleLevelPrefersTheDensestShare() {
+        // A coal level holds 1/16 of coal, more than a diamond level's 1/17 of diamond
+        BestYFinder.Band band = find(List.of(Ore.DIAMOND, Ore.COAL), 1, -60);
+        assertNotNull(band);
+        assertEquals(band.minY(), band.maxY());
+        assertEquals(0, band.minY());
+        assertEquals(2, band.oreCount());
+        assertEquals(1.0 / 16, band.score(), EPSILON);
+        assertEquals(1.0 / 32, band.getAverageShare(), EPSILON);
+    }
+
+    @Test
+    void tiesGoToTheLevelNearestThePlayer() {
+        assertEquals(-48, find(List.of(Ore.DIAMOND), 1, 100).minY());
+        assertEquals(-60, find(List.of(Ore.DIAMOND), 1, -60).minY());
+        assertEquals(-64, find(List.of(Ore.DIAMOND), 1, -200).minY());
+    }
+
+    @Test
+    void windowCoveringEveryOreScoresFully() {
+        BestYFinder.Band band = find(List.of(Ore.DIAMOND, Ore.COAL), 80, 0);
+        assertNotNull(band);
+        assertEquals(-64, band.minY());
+        assertEquals(15, band.maxY());
+        assertEquals(1, band.getAverageShare(), EPSILON);
+    }
+
+    @Test
+    void windowIsClampedToTheTableHeight() {
+        BestYFinder.Band band = find(List.of(Ore.COAL), BestYFinder.MAX_WINDOW + 100, 0);
+        assertNotNull(band);
+        assertEquals(OreTierTable.MIN_Y, band.minY());
+        assertEquals(OreTierTable.MAX_Y, band.maxY());
+    }
+
+    @Test
+    void oresThatCannotSpawnAreIgnored() {
+        // Other dimension, no density model, or the wrong biome class
+        assertNull(find(List.of(Ore.NETHER_QUARTZ), 1, 0));
+        assertNull(find(List.of(Ore.IRON), 1, 0));
+        assertNull(find(List.of(Ore.EMERALD), 1, 0));
+        assertNull(BestYFinder.find(OreTierTable.builtIn(), List.of(Ore.DIAMOND), BiomeClass.NORMAL,
+                Dimension.OVERWORLD, 1, 0));
+
+        BestYFinder.Band band = find(List.of(Ore.COAL, Ore.IRON, Ore.NETHER_QUARTZ), 1, 0);
+        assertNotNull(band);
+        assertEquals(1, band.oreCount());
+
+        BestYFinder.Band mountain = BestYFinder.find(table, List.of(Ore.EMERALD), BiomeClass.MOUNTAIN,
+                Dimension.OVERWORLD, 20, 0);
+        assertNotNull(mountain);
+        assertEquals(100, mountain.minY());
+        assertEquals(1, mountain.getAverageShare(), EPSILON);
+    }
+
+    private BestYFinder.Band find(List<Ore> ores, int window, int nearY) {
+        return BestYFinder.find(table, ores, BiomeClass.NORMAL, Dimension.OVERWORLD, window, nearY);
+    }
+
+    private static OreDefinition uniform(Ore ore, int minY, int maxY, BiomeClass biome) {
+        return OreDefinition.of(ore.getId(), minY, maxY, new int[0], biome,
+                List.of(new OrePlacement(OrePlacement.Shape.UNIFORM, minY, maxY, 0, 1, 1, null)));
+    }
+}
@@ -0,0 +1,240 @@
+package com.teeknox.oreoracle.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the tile caches against an access-ordered {@link LinkedHashMap} model of the same LRU,
+ * epoch and counter rules.
+ */
+class ChunkTileCacheTest {
+    private static final int OPERATIONS = 200_000;
+
+    @Test
+    void matchesLinkedHashMapModel() {
+        for (int maxSize : new int[]{1, 2, 7, 64}) {
+            Random random = new Random(maxSize);
+            ChunkTileCache<String> cache = new ChunkTileCache<>(maxSize);
+            Model model = new Model(maxSize);
+            for (int i = 0; i < OPERATIONS; i++) {
+                long key = randomKey(random, maxSize);
+                int op = i;
+                switch (random.nextInt(20)) {
+                    case 0 -> assertEquals(model.remove(key), cache.remove(key), () -> "remove at " + op);
+                    case 1 -> {
+                        model.invalidate();
+                        cache.invalidate();
+                    }
+                    case 2, 3, 4, 5, 6, 7, 8 -> {
+                        String value = "v" + i;
+                        model.put(key, i);
+                        cache.put(key, value);
+                    }
+                    default -> {
+                        Integer expected = model.get(key);
+                        assertEquals(expected == null ? null : "v" + expected, cache.get(key), () -> "get at " + op);
+                    }
+                }
+                assertEquals(model.entries.size(), cache.size(), () -> "size at " + op);
+                assertEquals(model.hits, cache.getHits(), () -> "hits at " + op);
+                assertEquals(model.misses, cache.getMisses(), () -> "misses at " + op);
+                assertEquals(model.evictions, cache.getEvictions(), () -> "evictions at " + op);
+            }
+        }
+    }
+
+    @Test
+    void intCacheMatchesLinkedHashMapModel() {
+        for (int maxSize : new int[]{1, 3, 64}) {
+            Random random = new Random(-maxSize);
+            IntChunkTileCache cache = new IntChunkTileCache(maxSize);
+            Model model = new Model(maxSize);
+            for (int i = 0; i < OPERATIONS; i++) {
+                long key = randomKey(random, maxSize);
+                int op = i;
+                switch (random.nextInt(20)) {
+                    case 0 -> assertEquals(model.remove(key), cache.remove(key), () -> "remove at " + op);
+                    case 1 -> {
+                        model.invalidate();
+                        cache.invalidate();
+                    }
+                    case 2, 3, 4, 5, 6, 7, 8 -> {
+                        model.put(key, i);
+                        cache.put(key, i);
+                    }
+                    default -> {
+                        Integer expected = model.get(key);
+                        assertEquals(expected == null ? -1 : expected, cache.getOrDefault(key, -1),
+                                () -> "get at " + op);
+                    }
+                }
+                assertEquals(model.entries.size(), cache.size(), () -> "size at " + op);
+                assertEquals(model.hits, cache.getHits(), () -> "hits at " + op);
+                assertEquals(model.misses, cache.getMisses(), () -> "misses at " + op);
+                assertEquals(model.evictions, cache.getEvictions(), () -> "evictions at " + op);
+            }
+        }
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedFirst() {
+        ChunkTileCache<String> cache = new ChunkTileCache<>(3);
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+        // Reading 1 makes 2 the least recently used
+        assertEquals("a", cache.get(1));
+        cache.put(4, "d");
+        assertEquals(1, cache.getEvictions());
+        assertNull(cache.get(2));
+
+        // Overwriting 3 refreshes it, so 1 goes next
+        cache.put(3, "c2");
+        cache.put(5, "e");
+        assertEquals(2, cache.getEvictions());
+        assertNull(cache.get(1));
+        assertEquals("c2", cache.get(3));
+        assertEquals("d", cache.get(4));
+        assertEquals("e", cache.get(5));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void countsHitsAndMissesUntilReset() {
+        ChunkTileCache<String> cache = new ChunkTileCache<>(2);
+        assertNull(cache.get(7));
+        cache.put(7, "x");
+        assertEquals("x", cache.get(7));
+        assertEquals("x", cache.get(7));
+        cache.put(8, "y");
+        cache.put(9, "z");
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getEvictions());
+
+        cache.resetStats();
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        assertEquals(0, cache.getEvictions());
+        // Only the counters reset, not the entries
+        assertEquals(2, cache.size());
+        assertEquals("z", cache.get(9));
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    void invalidateHidesEntriesAndReclaimsThemLazily() {
+        ChunkTileCache<String> cache = new ChunkTileCache<>(4);
+        for (long key = 0; key < 4; key++) {
+            cache.put(key, "old" + key);
+        }
+        cache.invalidate();
+        assertEquals(4, cache.size());
+
+        assertNull(cache.get(0));
+        assertEquals(3, cache.size());
+        assertFalse(cache.remove(1));
+        assertEquals(2, cache.size());
+
+        // Stale entries are first in line, so new ones never displace each other while any remain
+        cache.put(10, "new10");
+        cache.put(11, "new11");
+        cache.put(12, "new12");
+        assertEquals(1, cache.getEvictions());
+        assertEquals("new10", cache.get(10));
+        assertEquals("new11", cache.get(11));
+        assertEquals("new12", cache.get(12));
+        assertNull(cache.get(2));
+        assertNull(cache.get(3));
+    }
+
+    @Test
+    void clearDropsEverything() {
+        IntChunkTileCache cache = new IntChunkTileCache(8);
+        for (long key = -4; key < 4; key++) {
+            cache.put(key, (int) key * 1000);
+        }
+        cache.clear();
+        assertEquals(0, cache.size());
+        for (long key = -4; key < 4; key++) {
+            assertEquals(-1, cache.getOrDefault(key, -1));
+        }
+        cache.put(3, 300);
+        assertTrue(cache.remove(3));
+        assertFalse(cache.remove(3));
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ChunkTileCache<String>(0));
+        assertThrows(IllegalArgumentException.class, () -> new IntChunkTileCache(-1));
+        assertThrows(IllegalArgumentException.class, () -> new ChunkTileCache<String>(4).put(1, null));
+    }
+
+    /**
+     * Mostly keys from a small range so probe runs collide and shift, plus packed section positions
+     * far apart.
+     */
+    private static long randomKey(Random random, int maxSize) {
+        if (random.nextInt(4) == 0) {
+            return random.nextLong();
+        }
+        return random.nextInt(maxSize * 3 + 2) - maxSize;
+    }
+
+    /**
+     * Reference LRU: stale entries keep their place in access order until looked up or evicted.
+     */
+    private static final class Model {
+        private final int maxSize;
+        private final LinkedHashMap<Long, int[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private int epoch;
+        private long hits;
+        private long misses;
+        private long evictions;
+
+        Model(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        Integer get(long key) {
+            int[] entry = entries.get(key);
+            if (entry == null || entry[1] != epoch) {
+                entries.remove(key);
+                misses++;
+                return null;
+            }
+            hits++;
+            return entry[0];
+        }
+
+        void put(long key, int value) {
+            if (!entries.containsKey(key) && entries.size() >= maxSize) {
+                Iterator<Map.Entry<Long, int[]>> eldest = entries.entrySet().iterator();
+                eldest.next();
+                eldest.remove();
+                evictions++;
+            }
+            entries.put(key, new int[]{value, epoch});
+        }
+
+        boolean remove(long key) {
+            int[] entry = entries.remove(key);
+            return entry != null && entry[1] == epoch;
+        }
+
+        void invalidate() {
+            epoch++;
+        }
+    }
+}
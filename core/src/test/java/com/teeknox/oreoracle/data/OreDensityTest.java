@@ -0,0 +1,126 @@
+package com.teeknox.oreoracle.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the density model compiled from placements and the quantile tiers derived from it.
+ */
+class OreDensityTest {
+    private static final double EPSILON = 1e-6;
+
+    @Test
+    void uniformPlacementSpreadsMassEvenly() {
+        OreDensity density = compile(null, 0, 99, new OrePlacement(OrePlacement.Shape.UNIFORM, 0, 99, 0, 10, 5, null));
+
+        assertEquals(50, density.getWeight(BiomeClass.NORMAL), EPSILON);
+        assertEquals(0.01, density.getDensity(50, BiomeClass.NORMAL), EPSILON);
+        assertEquals(1, density.getMass(OreTierTable.MIN_Y, OreTierTable.MAX_Y, BiomeClass.NORMAL), EPSILON);
+        assertEquals(0.5, density.getMass(0, 49, BiomeClass.NORMAL), EPSILON);
+        assertEquals(0, density.getMass(-64, -1, BiomeClass.NORMAL), EPSILON);
+        assertEquals(1, density.getFractionOfMax(0, BiomeClass.NORMAL), EPSILON);
+
+        // Equal densities share a tier, so a uniform ore is GREEN wherever it spawns
+        for (int y = 0; y <= 99; y++) {
+            assertEquals(ProbabilityTier.GREEN, density.getTier(y, BiomeClass.NORMAL));
+        }
+        assertEquals(ProbabilityTier.NONE, density.getTier(-1, BiomeClass.NORMAL));
+        assertEquals(ProbabilityTier.NONE, density.getTier(100, BiomeClass.NORMAL));
+        assertEquals(ProbabilityTier.NONE, density.getTier(OreTierTable.MAX_Y + 1, BiomeClass.NORMAL));
+    }
+
+    @Test
+    void trapezoidTiersFollowMassQuantiles() {
+        OreDensity density = compile(null, -16, 112, new OrePlacement(OrePlacement.Shape.TRAPEZOID, -16, 112, 0, 16, 10, null));
+
+        assertEquals(ProbabilityTier.GREEN, density.getTier(48, BiomeClass.NORMAL));
+        assertEquals(1, density.getFractionOfMax(48, BiomeClass.NORMAL), EPSILON);
+
+        double[] massByTier = new double[ProbabilityTier.values().length];
+        double[] minByTier = {Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE};
+        double[] maxByTier = new double[ProbabilityTier.values().length];
+        for (int y = OreTierTable.MIN_Y; y <= OreTierTable.MAX_Y; y++) {
+            int tier = density.getTier(y, BiomeClass.NORMAL).ordinal();
+            double value = density.getDensity(y, BiomeClass.NORMAL);
+            massByTier[tier] += value;
+            minByTier[tier] = Math.min(minByTier[tier], value);
+            maxByTier[tier] = Math.max(maxByTier[tier], value);
+        }
+
+        // The densest levels holding half the mass are GREEN, the next ones up to 85% YELLOW
+        assertTrue(massByTier[ProbabilityTier.GREEN.ordinal()] >= OreDensity.GREEN_MASS - EPSILON);
+        assertTrue(massByTier[ProbabilityTier.GREEN.ordinal()] + massByTier[ProbabilityTier.YELLOW.ordinal()]
+                >= OreDensity.YELLOW_MASS - EPSILON);
+        assertTrue(massByTier[ProbabilityTier.RED.ordinal()] > 0);
+        assertEquals(0, maxByTier[ProbabilityTier.NONE.ordinal()], EPSILON);
+
+        // Every level of a better tier is denser than every level of a worse one
+        assertTrue(minByTier[ProbabilityTier.GREEN.ordinal()] > maxByTier[ProbabilityTier.YELLOW.ordinal()]);
+        assertTrue(minByTier[ProbabilityTier.YELLOW.ordinal()] > maxByTier[ProbabilityTier.RED.ordinal()]);
+    }
+
+    @Test
+    void biomeRestrictedPlacementsOnlyCountInTheirBiome() {
+        OreDensity density = compile(null, 0, 99,
+                new OrePlacement(OrePlacement.Shape.UNIFORM, 0, 99, 0, 1, 10, null),
+                new OrePlacement(OrePlacement.Shape.UNIFORM, 200, 299, 0, 1, 10, BiomeClass.MOUNTAIN));
+
+        assertEquals(10, density.getWeight(BiomeClass.NORMAL), EPSILON);
+        assertEquals(0, density.getMass(200, 299, BiomeClass.NORMAL), EPSILON);
+        assertEquals(ProbabilityTier.NONE, density.getTier(250, BiomeClass.NORMAL));
+
+        // The restricted placement reaches past the ore's base range, and both halves weigh the same
+        assertEquals(20, density.getWeight(BiomeClass.MOUNTAIN), EPSILON);
+        assertEquals(0.5, density.getMass(200, 299, BiomeClass.MOUNTAIN), EPSILON);
+        assertEquals(0.5, density.getMass(0, 99, BiomeClass.MOUNTAIN), EPSILON);
+    }
+
+    @Test
+    void requiredBiomeLeavesOtherClassesEmpty() {
+        OreDensity density = compile(BiomeClass.MOUNTAIN, -16, 320,
+                new OrePlacement(OrePlacement.Shape.TRAPEZOID, -16, 480, 0, 100, 3, null));
+
+        for (BiomeClass biomeClass : BiomeClass.values()) {
+            boolean spawns = biomeClass == BiomeClass.MOUNTAIN;
+            assertEquals(spawns, density.getWeight(biomeClass) > 0, biomeClass::name);
+            assertEquals(spawns ? 1 : 0, density.getMass(OreTierTable.MIN_Y, OreTierTable.MAX_Y, biomeClass),
+                    EPSILON, biomeClass::name);
+        }
+        assertEquals(ProbabilityTier.NONE, density.getTier(100, BiomeClass.NORMAL));
+        assertEquals(0, density.getFractionOfMax(100, BiomeClass.NORMAL), EPSILON);
+    }
+
+    @Test
+    void noPlacementsCompileToNoModel() {
+        assertNull(OreDensity.compile(List.of(), null, 0, 10));
+    }
+
+    @Test
+    void thresholdsCoverQuantileMass() {
+        float[] thresholds = OreDensity.tierThresholds(new float[]{0.1f, 0.4f, 0, 0.2f, 0.3f});
+        assertArrayEquals(new float[]{0.4f, 0.3f, 0.2f}, thresholds);
+
+        assertEquals(ProbabilityTier.GREEN, OreDensity.tierOf(0.4f, thresholds[1], thresholds[2]));
+        assertEquals(ProbabilityTier.GREEN, OreDensity.tierOf(0.3f, thresholds[1], thresholds[2]));
+        assertEquals(ProbabilityTier.YELLOW, OreDensity.tierOf(0.2f, thresholds[1], thresholds[2]));
+        assertEquals(ProbabilityTier.RED, OreDensity.tierOf(0.1f, thresholds[1], thresholds[2]));
+        assertEquals(ProbabilityTier.NONE, OreDensity.tierOf(0, thresholds[1], thresholds[2]));
+    }
+
+    @Test
+    void emptyDistributionHasNoTiers() {
+        float[] thresholds = OreDensity.tierThresholds(new float[8]);
+        assertEquals(0, thresholds[0], 0);
+        assertEquals(ProbabilityTier.NONE, OreDensity.tierOf(0, thresholds[1], thresholds[2]));
+    }
+
+    private static OreDensity compile(BiomeClass required, int minY, int maxY, OrePlacement... placements) {
+        return OreDensity.compile(List.of(placements), required, minY, maxY);
+    }
+}
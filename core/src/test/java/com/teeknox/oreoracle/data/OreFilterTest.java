@@ -0,0 +1,84 @@
+package com.teeknox.oreoracle.data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the bitmask filter path against the per-ore {@link OreFilter#shouldDisplay} rules.
+ */
+class OreFilterTest {
+    private static final long[] TRACKED_MASKS = {
+            0,
+            Ore.DIAMOND.getMask(),
+            Ore.COAL.getMask() | Ore.EMERALD.getMask() | Ore.ANCIENT_DEBRIS.getMask(),
+            (1L << Ore.values().length) - 1
+    };
+
+    private final OreTierTable table = OreTierTable.builtIn();
+
+    @Test
+    void visibleTiersMatchShouldDisplay() {
+        for (ProbabilityTier filter : ProbabilityTier.values()) {
+            int visibleTiers = OreFilter.visibleTiers(filter);
+            for (ProbabilityTier tier : ProbabilityTier.values()) {
+                boolean expected = filter != ProbabilityTier.NONE && OreFilter.shouldDisplay(filter, false, tier);
+                assertEquals(expected, (visibleTiers & 1 << tier.ordinal()) != 0, () -> filter + " shows " + tier);
+            }
+        }
+    }
+
+    @Test
+    void displayMaskMatchesShouldDisplayForEveryOre() {
+        for (ProbabilityTier filter : ProbabilityTier.values()) {
+            int visibleTiers = OreFilter.visibleTiers(filter);
+            for (long trackedMask : TRACKED_MASKS) {
+                for (BiomeClass biomeClass : BiomeClass.values()) {
+                    for (int y = OreTierTable.MIN_Y; y <= OreTierTable.MAX_Y; y++) {
+                        long expected = 0;
+                        for (Ore ore : Ore.values()) {
+                            boolean tracked = (trackedMask & ore.getMask()) != 0;
+                            if (OreFilter.shouldDisplay(filter, tracked, table.getTier(ore, y, biomeClass))) {
+                                expected |= ore.getMask();
+                            }
+                        }
+                        int level = y;
+                        assertEquals(expected, OreFilter.displayMask(visibleTiers, trackedMask, table, y, biomeClass),
+                                () -> filter + " at Y " + level + " in " + biomeClass);
+                        assertEquals(expected, OreFilter.displayMask(visibleTiers, trackedMask, table, y, biomeClass,
+                                BiomeMix.NONE), () -> filter + " without a mix at Y " + level + " in " + biomeClass);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void blendedDisplayMaskUsesBlendedTiers() {
+        BiomeMix mix = new BiomeMix(0.3f, 0.6f);
+        for (ProbabilityTier filter : ProbabilityTier.values()) {
+            int visibleTiers = OreFilter.visibleTiers(filter);
+            for (int y = OreTierTable.MIN_Y; y <= OreTierTable.MAX_Y; y++) {
+                long expected = 0;
+                for (Ore ore : Ore.values()) {
+                    if (OreFilter.shouldDisplay(filter, false, mix.getTier(table, ore, y, BiomeClass.NORMAL))) {
+                        expected |= ore.getMask();
+                    }
+                }
+                int level = y;
+                assertEquals(expected, OreFilter.displayMask(visibleTiers, 0, table, y, BiomeClass.NORMAL, mix),
+                        () -> filter + " at Y " + level);
+            }
+        }
+    }
+
+    @Test
+    void specificModeShowsTrackedOresOnly() {
+        int visibleTiers = OreFilter.visibleTiers(ProbabilityTier.NONE);
+        assertEquals(0, visibleTiers);
+        for (long trackedMask : TRACKED_MASKS) {
+            assertEquals(trackedMask, OreFilter.displayMask(visibleTiers, trackedMask, table, 12, BiomeClass.MOUNTAIN,
+                    new BiomeMix(0.5f, 0.5f)));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.teeknox.oreoracle.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Checks the compiled tier table against the reference {@link OreDistribution} branch chains.
+ */
+class OreTierTableTest {
+    private static final int MIN_Y = -64;
+    private static final int MAX_Y = 384;
+
+    private final OreTierTable table = OreTierTable.compile(List.of());
+
+    @Test
+    void tiersMatchReferenceForEveryYLevel() {
+        for (Ore ore : Ore.values()) {
+            for (BiomeClass biomeClass : BiomeClass.values()) {
+                for (int y = MIN_Y; y <= MAX_Y; y++) {
+                    ProbabilityTier expected = OreDistribution.getTier(ore, y, biomeClass);
+                    int level = y;
+                    assertEquals(expected, table.getTier(ore, y, biomeClass),
+                            () -> ore + " at Y " + level + " in " + biomeClass);
+                }
+            }
+        }
+    }
+
+    @Test
+    void peaksMatchReferenceForEveryYLevel() {
+        for (Ore ore : Ore.values()) {
+            for (int y = MIN_Y; y <= MAX_Y; y++) {
+                int level = y;
+                assertEquals(OreDistribution.isAtPeak(ore, y), table.isAtPeak(ore, y),
+                        () -> ore + " peak at Y " + level);
+            }
+        }
+    }
+
+    @Test
+    void levelsOutsideTableFallBackToReference() {
+        int[] levels = {OreTierTable.MIN_Y - 1, OreTierTable.MIN_Y - 200, OreTierTable.MAX_Y + 1, 2000};
+        for (Ore ore : Ore.values()) {
+            for (BiomeClass biomeClass : BiomeClass.values()) {
+                for (int y : levels) {
+                    assertEquals(OreDistribution.getTier(ore, y, biomeClass), table.getTier(ore, y, biomeClass));
+                }
+            }
+            for (int y : levels) {
+                assertEquals(OreDistribution.isAtPeak(ore, y), table.isAtPeak(ore, y));
+            }
+        }
+    }
+
+    @Test
+    void oreMasksMatchPerOreTiers() {
+        int allTiers = (1 << ProbabilityTier.values().length) - 1;
+        for (BiomeClass biomeClass : BiomeClass.values()) {
+            for (int y = MIN_Y; y <= MAX_Y; y++) {
+                for (int tierMask = 0; tierMask <= allTiers; tierMask++) {
+                    long expected = 0;
+                    for (Ore ore : Ore.values()) {
+                        if ((tierMask & 1 << OreDistribution.getTier(ore, y, biomeClass).ordinal()) != 0) {
+                            expected |= ore.getMask();
+                        }
+                    }
+                    assertEquals(expected, table.getOreMask(tierMask, y, biomeClass));
+                }
+            }
+        }
+    }
+
+    @Test
+    void builtInTableIsCompiledFromReference() {
+        OreTierTable builtIn = OreTierTable.builtIn();
+        for (Ore ore : Ore.values()) {
+            for (BiomeClass biomeClass : BiomeClass.values()) {
+                for (int y = MIN_Y; y <= MAX_Y; y++) {
+                    assertEquals(OreDistribution.getTier(ore, y, biomeClass), builtIn.getTier(ore, y, biomeClass));
+                }
+            }
+        }
+    }
+
+    @Test
+    void definitionsReplaceVanillaOresAndOtherIdsAreIgnored() {
+        OreDefinition iron = OreDefinition.of(Ore.IRON.getId(), 0, 32, new int[]{16}, null,
+                List.of(new OrePlacement(OrePlacement.Shape.TRAPEZOID, 0, 32, 0, 10, 8, null)));
+        OreDefinition modded = OreDefinition.of("examplemod:tin", -64, 320, new int[0], null,
+                List.of(new OrePlacement(OrePlacement.Shape.UNIFORM, -64, 320, 0, 10, 8, null)));
+        OreTierTable compiled = OreTierTable.compile(List.of(iron, modded));
+
+        assertNotNull(compiled.getDensity(Ore.IRON));
+        for (int y = MIN_Y; y <= MAX_Y; y++) {
+            assertEquals(iron.getTier(y, BiomeClass.NORMAL), compiled.getTier(Ore.IRON, y, BiomeClass.NORMAL));
+            assertEquals(iron.isAtPeak(y), compiled.isAtPeak(Ore.IRON, y));
+        }
+        // The unknown ID leaves every other ore on the built-in distribution
+        for (Ore ore : Ore.values()) {
+            if (ore == Ore.IRON) {
+                continue;
+            }
+            assertNull(compiled.getDensity(ore));
+            for (int y = MIN_Y; y <= MAX_Y; y++) {
+                assertEquals(table.getTier(ore, y, BiomeClass.NORMAL), compiled.getTier(ore, y, BiomeClass.NORMAL));
+            }
+        }
+    }
+}
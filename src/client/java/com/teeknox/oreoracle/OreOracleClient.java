@@ -2,18 +2,34 @@ package com.teeknox.oreoracle;
 
 import com.teeknox.oreoracle.command.OreOracleCommand;
 import com.teeknox.oreoracle.config.ModConfig;
+import com.teeknox.oreoracle.config.OreObservationStore;
 import com.teeknox.oreoracle.config.ServerDataManager;
+import com.teeknox.oreoracle.config.WriteBehindPersister;
+import com.teeknox.oreoracle.data.BiomeClassifier;
+import com.teeknox.oreoracle.data.BiomeResolver;
+import com.teeknox.oreoracle.data.BiomeSurvey;
+import com.teeknox.oreoracle.data.ChunkOreScanner;
+import com.teeknox.oreoracle.data.OreDistributionLoader;
+import com.teeknox.oreoracle.data.OreHistogram;
+import com.teeknox.oreoracle.data.PlacedFeatureCompiler;
+import com.teeknox.oreoracle.gui.OreChartWidget;
 import com.teeknox.oreoracle.gui.OreOracleOverlay;
 import com.teeknox.oreoracle.gui.OreSelectorScreen;
+import com.teeknox.oreoracle.gui.OverlayReloadListener;
+import com.teeknox.oreoracle.gui.TelemetryHudLine;
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.fabric.api.client.command.v2.ClientCommandRegistrationCallback;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientChunkEvents;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.client.keybinding.v1.KeyBindingHelper;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.client.rendering.v1.hud.HudElementRegistry;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
 import net.minecraft.client.option.KeyBinding;
 import net.minecraft.client.util.InputUtil;
+import net.minecraft.resource.ResourceType;
 import net.minecraft.util.Identifier;
 import org.lwjgl.glfw.GLFW;
 
@@ -38,17 +54,54 @@ public class OreOracleClient implements ClientModInitializer {
         // Register server join/leave events for per-server data
         ClientPlayConnectionEvents.JOIN.register((handler, sender, client) -> {
             ServerDataManager.getInstance().loadForCurrentServer();
+            OreObservationStore.getInstance().open(ServerDataManager.getInstance().getCurrentServerId());
+            BiomeClassifier.rebuild(handler.getRegistryManager());
+            BiomeResolver.getInstance().reset();
+            BiomeSurvey.getInstance().reset();
+            PlacedFeatureCompiler.compile(client, () -> OreOracleOverlay.getInstance().invalidateCache());
         });
 
         ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> {
+            OreObservationStore.getInstance().close();
             ServerDataManager.getInstance().clear();
+            BiomeClassifier.clear();
+            BiomeResolver.getInstance().reset();
+            BiomeSurvey.getInstance().reset();
+            PlacedFeatureCompiler.clear();
+            ChunkOreScanner.getInstance().reset();
+            OreHistogram.getInstance().clear();
+            OreOracleOverlay.getInstance().invalidateCache();
         });
 
-        // Save config on client stop
+        // Rebuild biome classification when the server resyncs tags
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> {
+            if (client) {
+                BiomeClassifier.rebuild(registries);
+                BiomeResolver.getInstance().reset();
+                BiomeSurvey.getInstance().reset();
+            }
+        });
+
+        // Keep the empirical ore histogram in step with the loaded chunks
+        ClientChunkEvents.CHUNK_LOAD.register((world, chunk) -> ChunkOreScanner.getInstance().onChunkLoad(world, chunk));
+        ClientChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> ChunkOreScanner.getInstance().onChunkUnload(world, chunk));
+
+        // Save config and flush pending background writes on client stop
         ClientLifecycleEvents.CLIENT_STOPPING.register(client -> {
             ModConfig.getInstance().save();
+            ServerDataManager.getInstance().save();
+            OreObservationStore.getInstance().flush();
+            WriteBehindPersister.getInstance().flush();
         });
 
+        // Load data-driven ore distributions (reloaded along with resource packs)
+        ResourceManagerHelper.get(ResourceType.CLIENT_RESOURCES).registerReloadListener(
+                new OreDistributionLoader(() -> OreOracleOverlay.getInstance().invalidateCache())
+        );
+
+        // Rebuild the cached HUD layout when fonts or language change
+        ResourceManagerHelper.get(ResourceType.CLIENT_RESOURCES).registerReloadListener(new OverlayReloadListener());
+
         // Register HUD overlay using the new HudElementRegistry API
         // Using addLast() to render after vanilla HUD elements and avoid render condition inheritance
         // This fixes the issue where pinned F3 elements would hide the overlay
@@ -58,6 +111,14 @@ public class OreOracleClient implements ClientModInitializer {
                     OreOracleOverlay.getInstance().render(context, tickCounter.getTickProgress(true));
                 }
         );
+        HudElementRegistry.addLast(
+                Identifier.of(OreOracleMod.MOD_ID, "chart"),
+                (context, tickCounter) -> OreChartWidget.getInstance().render(context)
+        );
+        HudElementRegistry.addLast(
+                Identifier.of(OreOracleMod.MOD_ID, "telemetry"),
+                (context, tickCounter) -> TelemetryHudLine.getInstance().render(context)
+        );
 
         // Register commands
         ClientCommandRegistrationCallback.EVENT.register((dispatcher, registryAccess) -> {
@@ -79,8 +140,15 @@ public class OreOracleClient implements ClientModInitializer {
                 KEYBIND_CATEGORY
         ));
 
-        // Handle keybind presses
+        // Update background work and the overlay snapshot, then handle keybind presses
         ClientTickEvents.END_CLIENT_TICK.register(client -> {
+            ChunkOreScanner.getInstance().tick(client);
+            OreObservationStore.getInstance().tick();
+            BiomeSurvey.getInstance().tick(client);
+            OreOracleOverlay.getInstance().tick(client);
+            OreChartWidget.getInstance().tick(client);
+            TelemetryHudLine.getInstance().tick();
+
             while (openSelectorKey.wasPressed()) {
                 if (client.currentScreen == null) {
                     client.setScreen(new OreSelectorScreen(null));
@@ -89,7 +157,7 @@ public class OreOracleClient implements ClientModInitializer {
 
             while (toggleHudKey.wasPressed()) {
                 ModConfig config = ModConfig.getInstance();
-                config.setEnabled(!config.isEnabled());
+                config.toggleEnabled();
                 config.save();
                 OreOracleOverlay.getInstance().invalidateCache();
             }
@@ -1,19 +1,35 @@
 package com.teeknox.oreoracle.command;
 
 import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.teeknox.oreoracle.config.ModConfig;
+import com.teeknox.oreoracle.config.ServerDataManager;
+import com.teeknox.oreoracle.data.BestYFinder;
+import com.teeknox.oreoracle.data.BiomeResolver;
+import com.teeknox.oreoracle.data.BiomeSurvey;
+import com.teeknox.oreoracle.data.IntChunkTileCache;
+import com.teeknox.oreoracle.data.Ore;
+import com.teeknox.oreoracle.data.OreTierTable;
 import com.teeknox.oreoracle.gui.OreOracleOverlay;
 import com.teeknox.oreoracle.gui.OreSelectorScreen;
+import com.teeknox.oreoracle.telemetry.LatencyHistogram;
+import com.teeknox.oreoracle.telemetry.Telemetry;
 import net.fabricmc.fabric.api.client.command.v2.ClientCommandManager;
 import net.fabricmc.fabric.api.client.command.v2.FabricClientCommandSource;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.command.CommandRegistryAccess;
 import net.minecraft.text.Text;
 
+import java.util.List;
+import java.util.Locale;
+
 /**
  * Client-side commands for Ore Oracle.
  * - /oreoracle or /oo - Opens the ore selector screen
  * - /oreoracle toggle - Toggles HUD visibility
+ * - /oreoracle best [window] - Finds the best Y-level (or band of that height) for the tracked ores
+ * - /oreoracle stats [on|off|reset|hud] - Shows or controls performance telemetry
  */
 public class OreOracleCommand {
 
@@ -25,6 +41,8 @@ public class OreOracleCommand {
                         .executes(context -> openSelector())
                         .then(ClientCommandManager.literal("toggle")
                                 .executes(context -> toggleHud(context.getSource())))
+                        .then(bestCommand())
+                        .then(statsCommand())
         );
 
         // Alias: /oo
@@ -33,9 +51,32 @@ public class OreOracleCommand {
                         .executes(context -> openSelector())
                         .then(ClientCommandManager.literal("toggle")
                                 .executes(context -> toggleHud(context.getSource())))
+                        .then(bestCommand())
+                        .then(statsCommand())
         );
     }
 
+    private static LiteralArgumentBuilder<FabricClientCommandSource> bestCommand() {
+        return ClientCommandManager.literal("best")
+                .executes(context -> findBest(context.getSource(), 1))
+                .then(ClientCommandManager.argument("window", IntegerArgumentType.integer(1, BestYFinder.MAX_WINDOW))
+                        .executes(context -> findBest(context.getSource(),
+                                IntegerArgumentType.getInteger(context, "window"))));
+    }
+
+    private static LiteralArgumentBuilder<FabricClientCommandSource> statsCommand() {
+        return ClientCommandManager.literal("stats")
+                .executes(context -> printStats(context.getSource()))
+                .then(ClientCommandManager.literal("on")
+                        .executes(context -> setStatsEnabled(context.getSource(), true)))
+                .then(ClientCommandManager.literal("off")
+                        .executes(context -> setStatsEnabled(context.getSource(), false)))
+                .then(ClientCommandManager.literal("reset")
+                        .executes(context -> resetStats(context.getSource())))
+                .then(ClientCommandManager.literal("hud")
+                        .executes(context -> toggleStatsHud(context.getSource())));
+    }
+
     private static int openSelector() {
         MinecraftClient client = MinecraftClient.getInstance();
         // Schedule for next tick to avoid rendering issues
@@ -47,14 +88,98 @@ public class OreOracleCommand {
 
     private static int toggleHud(FabricClientCommandSource source) {
         ModConfig config = ModConfig.getInstance();
-        config.setEnabled(!config.isEnabled());
+        boolean enabled = config.toggleEnabled();
         config.save();
 
         OreOracleOverlay.getInstance().invalidateCache();
 
-        String messageKey = config.isEnabled() ? "oreoracle.command.hud.enabled" : "oreoracle.command.hud.disabled";
+        String messageKey = enabled ? "oreoracle.command.hud.enabled" : "oreoracle.command.hud.disabled";
         source.sendFeedback(Text.translatable(messageKey));
 
         return 1;
     }
+
+    private static int findBest(FabricClientCommandSource source, int window) {
+        MinecraftClient client = MinecraftClient.getInstance();
+        BiomeResolver resolver = BiomeResolver.getInstance();
+        resolver.update(client);
+
+        List<Ore> tracked = ServerDataManager.getInstance().getTrackedOreList();
+        if (tracked.isEmpty()) {
+            source.sendError(Text.translatable("oreoracle.command.best.none_tracked"));
+            return 0;
+        }
+
+        BestYFinder.Band band = BestYFinder.find(OreTierTable.get(), tracked, resolver.getBiomeClass(),
+                resolver.getDimension(), window, source.getPlayer().getBlockY());
+        if (band == null) {
+            source.sendError(Text.translatable("oreoracle.command.best.none_here"));
+            return 0;
+        }
+
+        String share = String.format(Locale.ROOT, "%.1f", band.getAverageShare() * 100);
+        if (window == 1) {
+            source.sendFeedback(Text.translatable("oreoracle.command.best.level",
+                    band.minY(), band.oreCount(), share));
+        } else {
+            source.sendFeedback(Text.translatable("oreoracle.command.best.band",
+                    band.minY(), band.maxY(), band.oreCount(), share));
+        }
+        return 1;
+    }
+
+    private static int printStats(FabricClientCommandSource source) {
+        if (!Telemetry.isEnabled() && Telemetry.Timer.RENDER.getHistogram().getCount() == 0) {
+            source.sendFeedback(Text.translatable("oreoracle.command.stats.off"));
+            return 1;
+        }
+
+        source.sendFeedback(Text.translatable("oreoracle.command.stats.header",
+                Text.translatable(Telemetry.isEnabled() ? "options.on" : "options.off")));
+        for (Telemetry.Timer timer : Telemetry.Timer.values()) {
+            LatencyHistogram histogram = timer.getHistogram();
+            source.sendFeedback(Text.translatable("oreoracle.command.stats.timer", timer.getLabel(),
+                    histogram.getCount(),
+                    Telemetry.formatNanos(histogram.getPercentile(0.5)),
+                    Telemetry.formatNanos(histogram.getPercentile(0.99)),
+                    Telemetry.formatNanos(histogram.getMax())));
+        }
+
+        long recomputes = Telemetry.Timer.RECOMPUTE.getHistogram().getCount();
+        long hits = Telemetry.Counter.CACHE_HITS.get();
+        long hitPercent = recomputes + hits > 0 ? hits * 100 / (recomputes + hits) : 0;
+        source.sendFeedback(Text.translatable("oreoracle.command.stats.counters", recomputes, hits, hitPercent,
+                Telemetry.Counter.SNAPSHOTS.get()));
+
+        BiomeResolver resolver = BiomeResolver.getInstance();
+        source.sendFeedback(Text.translatable("oreoracle.command.stats.biome", resolver.getHits(),
+                resolver.getMisses()));
+
+        IntChunkTileCache survey = BiomeSurvey.getInstance().getCache();
+        source.sendFeedback(Text.translatable("oreoracle.command.stats.survey", survey.getHits(),
+                survey.getMisses(), survey.getEvictions(), survey.size(), survey.getMaxSize()));
+        return 1;
+    }
+
+    private static int setStatsEnabled(FabricClientCommandSource source, boolean enabled) {
+        Telemetry.setEnabled(enabled);
+        source.sendFeedback(Text.translatable(enabled ? "oreoracle.command.stats.enabled"
+                : "oreoracle.command.stats.disabled"));
+        return 1;
+    }
+
+    private static int resetStats(FabricClientCommandSource source) {
+        Telemetry.reset();
+        BiomeSurvey.getInstance().getCache().resetStats();
+        source.sendFeedback(Text.translatable("oreoracle.command.stats.reset"));
+        return 1;
+    }
+
+    private static int toggleStatsHud(FabricClientCommandSource source) {
+        boolean shown = !Telemetry.isHudLine();
+        Telemetry.setHudLine(shown);
+        source.sendFeedback(Text.translatable(shown ? "oreoracle.command.stats.hud_shown"
+                : "oreoracle.command.stats.hud_hidden"));
+        return 1;
+    }
 }
@@ -1,5 +1,6 @@
 package com.teeknox.oreoracle.config;
 
+import com.teeknox.oreoracle.data.BiomeSurvey;
 import com.teeknox.oreoracle.gui.OreOracleOverlay;
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.client.gui.screen.Screen;
@@ -32,7 +33,11 @@ public class ConfigScreen extends Screen {
     private CyclingButtonWidget<ModConfig.HudPosition> hudPositionButton;
     private CyclingButtonWidget<ModConfig.VerticalPosition> verticalPositionButton;
     private CyclingButtonWidget<ModConfig.DisplayMode> displayModeButton;
+    private CyclingButtonWidget<Boolean> empiricalModeButton;
+    private CyclingButtonWidget<Boolean> retainedHudButton;
+    private CyclingButtonWidget<Boolean> showChartButton;
     private MaxOresSlider maxOresSlider;
+    private SurveyRadiusSlider surveyRadiusSlider;
 
     public ConfigScreen(Screen parent) {
         super(Text.translatable("oreoracle.screen.config.title"));
@@ -97,12 +102,42 @@ public class ConfigScreen extends Screen {
         addDrawableChild(displayModeButton);
         currentY += ROW_HEIGHT;
 
+        // Empirical mode toggle
+        empiricalModeButton = CyclingButtonWidget.onOffBuilder(config.isEmpiricalMode())
+                .build(contentX, currentY, buttonWidth, 20,
+                        Text.translatable("oreoracle.config.empiricalMode"),
+                        (button, value) -> config.setEmpiricalMode(value));
+        addDrawableChild(empiricalModeButton);
+        currentY += ROW_HEIGHT;
+
+        // Retained HUD toggle
+        retainedHudButton = CyclingButtonWidget.onOffBuilder(config.isRetainedHud())
+                .build(contentX, currentY, buttonWidth, 20,
+                        Text.translatable("oreoracle.config.retainedHud"),
+                        (button, value) -> config.setRetainedHud(value));
+        addDrawableChild(retainedHudButton);
+        currentY += ROW_HEIGHT;
+
+        // Distribution chart toggle
+        showChartButton = CyclingButtonWidget.onOffBuilder(config.isShowChart())
+                .build(contentX, currentY, buttonWidth, 20,
+                        Text.translatable("oreoracle.config.showChart"),
+                        (button, value) -> config.setShowChart(value));
+        addDrawableChild(showChartButton);
+        currentY += ROW_HEIGHT;
+
         // Max visible ores slider
         maxOresSlider = new MaxOresSlider(contentX, currentY, buttonWidth, 20,
                 config.getMaxVisibleOres());
         addDrawableChild(maxOresSlider);
         currentY += ROW_HEIGHT;
 
+        // Biome survey radius slider
+        surveyRadiusSlider = new SurveyRadiusSlider(contentX, currentY, buttonWidth, 20,
+                config.getSurveyRadius());
+        addDrawableChild(surveyRadiusSlider);
+        currentY += ROW_HEIGHT;
+
         // Done button
         int buttonY = this.height - FOOTER_HEIGHT + 15;
         int doneButtonWidth = 80;
@@ -169,4 +204,38 @@ public class ConfigScreen extends Screen {
             return MIN_VALUE + (int) Math.round(this.value * (MAX_VALUE - MIN_VALUE));
         }
     }
+
+    /**
+     * Custom slider for the biome survey radius setting.
+     */
+    private class SurveyRadiusSlider extends SliderWidget {
+        private static final int MIN_VALUE = 0;
+        private static final int MAX_VALUE = BiomeSurvey.MAX_RADIUS;
+
+        public SurveyRadiusSlider(int x, int y, int width, int height, int currentValue) {
+            super(x, y, width, height, message(currentValue),
+                    (Math.max(MIN_VALUE, Math.min(MAX_VALUE, currentValue)) - MIN_VALUE)
+                            / (double) (MAX_VALUE - MIN_VALUE));
+        }
+
+        @Override
+        protected void updateMessage() {
+            setMessage(message(getValue()));
+        }
+
+        @Override
+        protected void applyValue() {
+            config.setSurveyRadius(getValue());
+        }
+
+        private int getValue() {
+            return MIN_VALUE + (int) Math.round(this.value * (MAX_VALUE - MIN_VALUE));
+        }
+
+        private static Text message(int value) {
+            return value == 0
+                    ? Text.translatable("oreoracle.config.surveyRadius.off")
+                    : Text.translatable("oreoracle.config.surveyRadius", value);
+        }
+    }
 }
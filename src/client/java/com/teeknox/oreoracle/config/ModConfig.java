@@ -2,141 +2,290 @@ package com.teeknox.oreoracle.config;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 import com.teeknox.oreoracle.OreOracleMod;
+import com.teeknox.oreoracle.telemetry.Telemetry;
 import net.fabricmc.loader.api.FabricLoader;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * Global configuration for the Ore Oracle mod.
  * Settings persist across game sessions in ore-oracle-config.json.
+ *
+ * The current settings are held in an immutable {@link Snapshot} published through a volatile
+ * reference, so readers on any thread always see a consistent set of values. Setters replace
+ * the snapshot (copy-on-write) and {@link #save()} writes in the background, unless the snapshot
+ * equals the last one successfully written and no other write is still outstanding.
  */
 public class ModConfig {
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
-    private static final Path CONFIG_PATH = FabricLoader.getInstance()
-            .getConfigDir().resolve("ore-oracle-config.json");
+    private static final String FILE_NAME = "ore-oracle-config.json";
 
     private static ModConfig instance;
 
-    // HUD settings
-    private boolean enabled = true;
-    private boolean showHudHeader = true;
-    private HudPosition hudPosition = HudPosition.LEFT;
-    private VerticalPosition verticalPosition = VerticalPosition.TOP;
-    private int overlayX = 4;
-    private int overlayY = 4;
-    private DisplayMode displayMode = DisplayMode.NAME;
-    private int maxVisibleOres = 8;
+    private final Path path;
+    private final AtomicReference<Snapshot> snapshot;
+    // Last snapshot known to be on disk; only set once its write succeeded
+    private Snapshot savedSnapshot;
+    // Last snapshot handed to the persister; differs from savedSnapshot while its write is pending or failed
+    private Snapshot queuedSnapshot;
 
-    // Hidden default constructor for GSON
-    private ModConfig() {}
+    private ModConfig(Path path, Snapshot snapshot, @Nullable Snapshot savedSnapshot) {
+        this.path = path;
+        this.snapshot = new AtomicReference<>(snapshot);
+        this.savedSnapshot = savedSnapshot;
+    }
 
-    public static ModConfig getInstance() {
+    public static synchronized ModConfig getInstance() {
         if (instance == null) {
-            instance = load();
+            instance = load(FabricLoader.getInstance().getConfigDir().resolve(FILE_NAME));
         }
         return instance;
     }
 
     /**
-     * Load config from file, or create default if not exists.
+     * Load config from a file, or create default if not exists.
      */
-    private static ModConfig load() {
-        if (Files.exists(CONFIG_PATH)) {
+    static ModConfig load(Path path) {
+        if (Files.exists(path)) {
             try {
-                String json = Files.readString(CONFIG_PATH);
-                ModConfig config = GSON.fromJson(json, ModConfig.class);
-                if (config != null) {
-                    return config;
+                String json = Files.readString(path);
+                Data data = GSON.fromJson(json, Data.class);
+                if (data != null) {
+                    Snapshot loaded = data.toSnapshot();
+                    return new ModConfig(path, loaded, loaded);
                 }
-            } catch (IOException e) {
+            } catch (IOException | JsonParseException e) {
                 OreOracleMod.LOGGER.error("Failed to load config", e);
             }
         }
         // Return default config
-        ModConfig config = new ModConfig();
+        ModConfig config = new ModConfig(path, new Data().toSnapshot(), null);
         config.save();
         return config;
     }
 
     /**
-     * Save config to file.
+     * Save config to file in the background if it changed since the last successful save.
+     * While an earlier write is pending, the current settings are always queued: they may equal
+     * the saved ones again (e.g. a setting toggled twice) while the pending write holds others.
+     * A failed write leaves the saved state unchanged, so the next call tries again.
      */
-    public void save() {
-        try {
-            Files.createDirectories(CONFIG_PATH.getParent());
-            Files.writeString(CONFIG_PATH, GSON.toJson(this));
-        } catch (IOException e) {
-            OreOracleMod.LOGGER.error("Failed to save config", e);
+    public synchronized void save() {
+        long start = Telemetry.start(Telemetry.Timer.CONFIG_SAVE);
+        Snapshot current = snapshot.get();
+        boolean outstanding = queuedSnapshot != null && queuedSnapshot != savedSnapshot;
+        if (outstanding || !current.equals(savedSnapshot)) {
+            queuedSnapshot = current;
+            WriteBehindPersister.getInstance().schedule(path, () -> GSON.toJson(Data.fromSnapshot(current)),
+                    () -> markSaved(current));
         }
+        Telemetry.stop(Telemetry.Timer.CONFIG_SAVE, start);
+    }
+
+    /**
+     * Record a snapshot as written. Called on the IO thread after the file was moved into place.
+     */
+    private synchronized void markSaved(Snapshot written) {
+        savedSnapshot = written;
+    }
+
+    /**
+     * Get the current settings as one consistent, immutable view.
+     */
+    public Snapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Replace the settings with a copy changed by {@code change}, retrying if another thread
+     * replaced them meanwhile. The change may run more than once and must only set fields.
+     *
+     * @return The new settings
+     */
+    private Snapshot update(Consumer<Data> change) {
+        return snapshot.updateAndGet(current -> {
+            Data data = Data.fromSnapshot(current);
+            change.accept(data);
+            return data.toSnapshot();
+        });
+    }
+
+    /**
+     * Flip the enabled flag atomically.
+     *
+     * @return The new enabled state
+     */
+    public boolean toggleEnabled() {
+        return update(data -> data.enabled = !data.enabled).enabled();
     }
 
     // Getters and setters
 
     public boolean isEnabled() {
-        return enabled;
+        return snapshot.get().enabled();
     }
 
     public void setEnabled(boolean enabled) {
-        this.enabled = enabled;
+        update(data -> data.enabled = enabled);
     }
 
     public boolean isShowHudHeader() {
-        return showHudHeader;
+        return snapshot.get().showHudHeader();
     }
 
     public void setShowHudHeader(boolean showHudHeader) {
-        this.showHudHeader = showHudHeader;
+        update(data -> data.showHudHeader = showHudHeader);
     }
 
     public HudPosition getHudPosition() {
-        return hudPosition;
+        return snapshot.get().hudPosition();
     }
 
     public void setHudPosition(HudPosition hudPosition) {
-        this.hudPosition = hudPosition;
+        update(data -> data.hudPosition = hudPosition);
     }
 
     public VerticalPosition getVerticalPosition() {
-        return verticalPosition;
+        return snapshot.get().verticalPosition();
     }
 
     public void setVerticalPosition(VerticalPosition verticalPosition) {
-        this.verticalPosition = verticalPosition;
+        update(data -> data.verticalPosition = verticalPosition);
     }
 
     public int getOverlayX() {
-        return overlayX;
+        return snapshot.get().overlayX();
     }
 
     public void setOverlayX(int overlayX) {
-        this.overlayX = overlayX;
+        update(data -> data.overlayX = overlayX);
     }
 
     public int getOverlayY() {
-        return overlayY;
+        return snapshot.get().overlayY();
     }
 
     public void setOverlayY(int overlayY) {
-        this.overlayY = overlayY;
+        update(data -> data.overlayY = overlayY);
     }
 
     public DisplayMode getDisplayMode() {
-        return displayMode;
+        return snapshot.get().displayMode();
     }
 
     public void setDisplayMode(DisplayMode displayMode) {
-        this.displayMode = displayMode;
+        update(data -> data.displayMode = displayMode);
     }
 
     public int getMaxVisibleOres() {
-        return maxVisibleOres;
+        return snapshot.get().maxVisibleOres();
     }
 
     public void setMaxVisibleOres(int maxVisibleOres) {
-        this.maxVisibleOres = maxVisibleOres;
+        update(data -> data.maxVisibleOres = maxVisibleOres);
+    }
+
+    public boolean isEmpiricalMode() {
+        return snapshot.get().empiricalMode();
+    }
+
+    public void setEmpiricalMode(boolean empiricalMode) {
+        update(data -> data.empiricalMode = empiricalMode);
+    }
+
+    public boolean isRetainedHud() {
+        return snapshot.get().retainedHud();
+    }
+
+    public void setRetainedHud(boolean retainedHud) {
+        update(data -> data.retainedHud = retainedHud);
+    }
+
+    public boolean isShowChart() {
+        return snapshot.get().showChart();
+    }
+
+    public void setShowChart(boolean showChart) {
+        update(data -> data.showChart = showChart);
+    }
+
+    public int getSurveyRadius() {
+        return snapshot.get().surveyRadius();
+    }
+
+    public void setSurveyRadius(int surveyRadius) {
+        update(data -> data.surveyRadius = surveyRadius);
+    }
+
+    /**
+     * Immutable view of all settings.
+     */
+    public record Snapshot(boolean enabled, boolean showHudHeader, HudPosition hudPosition,
+                           VerticalPosition verticalPosition, int overlayX, int overlayY,
+                           DisplayMode displayMode, int maxVisibleOres, boolean empiricalMode,
+                           boolean retainedHud, boolean showChart, int surveyRadius) {
+    }
+
+    /**
+     * On-disk JSON layout. Field initializers provide defaults for settings missing from the file.
+     * Also serves as the mutable copy that {@link #update} changes before it becomes the next snapshot.
+     */
+    private static class Data {
+        // HUD settings
+        boolean enabled = true;
+        boolean showHudHeader = true;
+        HudPosition hudPosition = HudPosition.LEFT;
+        VerticalPosition verticalPosition = VerticalPosition.TOP;
+        int overlayX = 4;
+        int overlayY = 4;
+        DisplayMode displayMode = DisplayMode.NAME;
+        int maxVisibleOres = 8;
+
+        // Empirical mode: count ores in loaded chunks
+        boolean empiricalMode = false;
+
+        // Retained HUD: record draw commands once per change and replay them each frame
+        boolean retainedHud = true;
+
+        // Distribution chart: one vertical tier strip per tracked ore
+        boolean showChart = false;
+
+        // Biome survey: chunk radius sampled around the player for emerald and badlands gold (0 = off)
+        int surveyRadius = 2;
+
+        Snapshot toSnapshot() {
+            Data defaults = new Data();
+            return new Snapshot(enabled, showHudHeader,
+                    hudPosition != null ? hudPosition : defaults.hudPosition,
+                    verticalPosition != null ? verticalPosition : defaults.verticalPosition,
+                    overlayX, overlayY,
+                    displayMode != null ? displayMode : defaults.displayMode,
+                    maxVisibleOres, empiricalMode, retainedHud, showChart, surveyRadius);
+        }
+
+        static Data fromSnapshot(Snapshot snapshot) {
+            Data data = new Data();
+            data.enabled = snapshot.enabled();
+            data.showHudHeader = snapshot.showHudHeader();
+            data.hudPosition = snapshot.hudPosition();
+            data.verticalPosition = snapshot.verticalPosition();
+            data.overlayX = snapshot.overlayX();
+            data.overlayY = snapshot.overlayY();
+            data.displayMode = snapshot.displayMode();
+            data.maxVisibleOres = snapshot.maxVisibleOres();
+            data.empiricalMode = snapshot.empiricalMode();
+            data.retainedHud = snapshot.retainedHud();
+            data.showChart = snapshot.showChart();
+            data.surveyRadius = snapshot.surveyRadius();
+            return data;
+        }
     }
 
     /**
@@ -0,0 +1,388 @@
+package com.teeknox.oreoracle.config;
+
+import com.teeknox.oreoracle.OreOracleMod;
+import com.teeknox.oreoracle.data.ChunkOreCounts;
+import com.teeknox.oreoracle.data.Dimension;
+import com.teeknox.oreoracle.data.Ore;
+import com.teeknox.oreoracle.data.OreTierTable;
+import com.teeknox.oreoracle.telemetry.OreOracleEvents;
+import com.teeknox.oreoracle.telemetry.Telemetry;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Persists empirical ore observations per server and dimension, so the empirical tiers survive restarts.
+ *
+ * Each dimension has a fixed-layout binary file, ore-oracle-data/&lt;server-id&gt;-&lt;dimension&gt;.ores,
+ * memory-mapped with {@link FileChannel#map}: a small header followed by a long counter per (ore, Y).
+ * The packed positions of counted chunks are appended to a companion .chunks file, so each chunk is
+ * counted once across sessions.
+ *
+ * Recording a chunk only updates arrays on the heap: the totals that are read back and the deltas since
+ * the last flush. A flush first appends and forces the new chunk positions on the IO thread, and only
+ * then adds the deltas into the mapping and forces it. Mapped pages can reach disk at any time, so this
+ * order is what keeps a crash from counting a chunk twice: at worst the counts of one flush are lost
+ * while their chunks are already marked as seen.
+ *
+ * Neither file is truncated while mapped, since an old session's mapping can outlive its channel
+ * until it is garbage collected, and truncating a mapped file fails on Windows.
+ *
+ * Only accessed from the client thread, apart from the flushes run on the IO thread.
+ */
+public final class OreObservationStore {
+    private static final int MAGIC = 0x4F4F4F53; // "OOOS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int ORE_COUNT = Ore.values().length;
+    private static final int HEIGHT = OreTierTable.MAX_Y - OreTierTable.MIN_Y + 1;
+    private static final long FILE_BYTES = HEADER_BYTES + (long) ORE_COUNT * HEIGHT * Long.BYTES;
+    private static final int FLUSH_INTERVAL_TICKS = 20 * 30;
+
+    private static OreObservationStore instance;
+
+    private final Path dataDir;
+    private final Map<Dimension, DimensionFile> files = new EnumMap<>(Dimension.class);
+    private String serverId;
+    private int version;
+    private int ticksSinceFlush;
+
+    OreObservationStore(Path dataDir) {
+        this.dataDir = dataDir;
+    }
+
+    public static OreObservationStore getInstance() {
+        if (instance == null) {
+            instance = new OreObservationStore(ServerDataManager.DATA_DIR);
+        }
+        return instance;
+    }
+
+    /**
+     * Use the files of a server (called on join). Files are mapped lazily per dimension.
+     *
+     * @param serverId Sanitized server ID, or null to keep observations in memory only
+     */
+    public void open(@Nullable String serverId) {
+        close();
+        this.serverId = serverId;
+        version++;
+    }
+
+    /**
+     * Flush and release the current server's files (called on disconnect and client stop).
+     */
+    public void close() {
+        flush();
+        for (DimensionFile file : files.values()) {
+            WriteBehindPersister.getInstance().execute(file::close);
+        }
+        files.clear();
+        serverId = null;
+        version++;
+    }
+
+    /**
+     * Count a scanned chunk, unless it was already counted in this or an earlier session.
+     *
+     * @return true if the chunk was new
+     */
+    public boolean record(Dimension dimension, ChunkOreCounts chunk) {
+        DimensionFile file = getFile(dimension);
+        if (!file.seen.add(chunk.chunkPos())) {
+            return false;
+        }
+        long[] totals = file.totals;
+        long[] deltas = file.deltas;
+        chunk.forEach((ore, y, count) -> {
+            int row = y - OreTierTable.MIN_Y;
+            if (row >= 0 && row < HEIGHT) {
+                int index = ore.ordinal() * HEIGHT + row;
+                totals[index] += count;
+                deltas[index] += count;
+            }
+        });
+        file.appendChunk(chunk.chunkPos());
+        file.dirty = true;
+        version++;
+        return true;
+    }
+
+    /**
+     * Get the number of blocks of an ore observed at a Y-level.
+     */
+    public long getCount(Dimension dimension, Ore ore, int y) {
+        DimensionFile file = getFile(dimension);
+        int row = y - OreTierTable.MIN_Y;
+        if (row < 0 || row >= HEIGHT) {
+            return 0;
+        }
+        return file.totals[ore.ordinal() * HEIGHT + row];
+    }
+
+    /**
+     * Get the number of chunks counted in a dimension.
+     */
+    public int getChunkCount(Dimension dimension) {
+        return getFile(dimension).seen.size();
+    }
+
+    /**
+     * Get a counter that changes whenever observations change.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Flush dirty files every {@link #FLUSH_INTERVAL_TICKS} ticks (called at the end of every client tick).
+     */
+    public void tick() {
+        if (++ticksSinceFlush >= FLUSH_INTERVAL_TICKS) {
+            flush();
+        }
+    }
+
+    /**
+     * Queue dirty counters and newly seen chunks for writing on the IO thread.
+     */
+    public void flush() {
+        long start = Telemetry.start(Telemetry.Timer.OBSERVATION_FLUSH);
+        ticksSinceFlush = 0;
+        for (Map.Entry<Dimension, DimensionFile> entry : files.entrySet()) {
+            DimensionFile file = entry.getValue();
+            if (!file.dirty) {
+                continue;
+            }
+            file.dirty = false;
+            long[] chunks = file.takePendingChunks();
+            long[] deltas = file.takeDeltas();
+            String dimensionName = entry.getKey().name();
+            WriteBehindPersister.getInstance().execute(() -> write(file, dimensionName, chunks, deltas));
+        }
+        Telemetry.stop(Telemetry.Timer.OBSERVATION_FLUSH, start);
+    }
+
+    /**
+     * Write a file's pending data, reporting the write to JFR. Runs on the IO thread.
+     */
+    private static void write(DimensionFile file, String dimensionName, long[] chunks, long[] deltas) {
+        OreOracleEvents.ObservationWrite event = new OreOracleEvents.ObservationWrite();
+        event.begin();
+        file.write(chunks, deltas);
+        if (event.shouldCommit()) {
+            event.dimension = dimensionName;
+            event.chunkCount = chunks.length;
+            event.commit();
+        }
+    }
+
+    private DimensionFile getFile(Dimension dimension) {
+        DimensionFile file = files.get(dimension);
+        if (file == null) {
+            file = openFile(dimension);
+            files.put(dimension, file);
+        }
+        return file;
+    }
+
+    private DimensionFile openFile(Dimension dimension) {
+        if (serverId != null) {
+            String baseName = serverId + "-" + dimension.name().toLowerCase();
+            Path countersPath = dataDir.resolve(baseName + ".ores");
+            Path chunksPath = dataDir.resolve(baseName + ".chunks");
+            try {
+                return DimensionFile.map(countersPath, chunksPath);
+            } catch (IOException e) {
+                OreOracleMod.LOGGER.error("Failed to open ore observations {}, keeping them in memory",
+                        countersPath, e);
+            }
+        }
+        return DimensionFile.inMemory();
+    }
+
+    /**
+     * Counters and seen chunks for one dimension, backed by files or (without a server ID) by memory.
+     */
+    private static final class DimensionFile {
+        private static final int READ_BUFFER_BYTES = 64 * 1024;
+
+        // Client thread: counts including unflushed chunks, and the counts added since the last flush
+        final long[] totals;
+        long[] deltas = new long[ORE_COUNT * HEIGHT];
+        final Set<Long> seen;
+        // IO thread: the mapped counters, updated only after the chunks they count are on disk
+        @Nullable final LongBuffer counters;
+        @Nullable final MappedByteBuffer mapping;
+        @Nullable final FileChannel countersChannel;
+        @Nullable final FileChannel chunksChannel;
+        long[] pendingChunks = new long[64];
+        int pendingCount;
+        boolean dirty;
+
+        private DimensionFile(long[] totals, Set<Long> seen, @Nullable LongBuffer counters,
+                              @Nullable MappedByteBuffer mapping, @Nullable FileChannel countersChannel,
+                              @Nullable FileChannel chunksChannel) {
+            this.totals = totals;
+            this.seen = seen;
+            this.counters = counters;
+            this.mapping = mapping;
+            this.countersChannel = countersChannel;
+            this.chunksChannel = chunksChannel;
+        }
+
+        static DimensionFile inMemory() {
+            return new DimensionFile(new long[ORE_COUNT * HEIGHT], new HashSet<>(), null, null, null, null);
+        }
+
+        static DimensionFile map(Path countersPath, Path chunksPath) throws IOException {
+            Files.createDirectories(countersPath.toAbsolutePath().getParent());
+            FileChannel countersChannel = FileChannel.open(countersPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            FileChannel chunksChannel = null;
+            try {
+                // Anything past the counters is left alone rather than truncated
+                boolean valid = countersChannel.size() >= FILE_BYTES;
+                MappedByteBuffer mapping = countersChannel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_BYTES);
+                valid &= mapping.getInt(0) == MAGIC && mapping.getInt(4) == FORMAT_VERSION
+                        && mapping.getInt(8) == ORE_COUNT && mapping.getInt(12) == OreTierTable.MIN_Y
+                        && mapping.getInt(16) == HEIGHT;
+
+                chunksChannel = FileChannel.open(chunksPath,
+                        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                Set<Long> seen = new HashSet<>();
+                if (valid) {
+                    readChunks(chunksChannel, seen);
+                } else {
+                    // New file or an incompatible layout: start counting from scratch
+                    for (int offset = 0; offset < FILE_BYTES; offset += Long.BYTES) {
+                        mapping.putLong(offset, 0);
+                    }
+                    mapping.putInt(0, MAGIC).putInt(4, FORMAT_VERSION).putInt(8, ORE_COUNT)
+                            .putInt(12, OreTierTable.MIN_Y).putInt(16, HEIGHT);
+                    chunksChannel.truncate(0);
+                }
+                chunksChannel.position(chunksChannel.size());
+
+                LongBuffer counters = mapping.slice(HEADER_BYTES, (int) (FILE_BYTES - HEADER_BYTES)).asLongBuffer();
+                long[] totals = new long[ORE_COUNT * HEIGHT];
+                counters.get(0, totals);
+                return new DimensionFile(totals, seen, counters, mapping, countersChannel, chunksChannel);
+            } catch (IOException | RuntimeException e) {
+                countersChannel.close();
+                if (chunksChannel != null) {
+                    chunksChannel.close();
+                }
+                throw e;
+            }
+        }
+
+        /**
+         * Read the seen chunks with plain reads; the file is never mapped, so it can be truncated.
+         */
+        private static void readChunks(FileChannel channel, Set<Long> seen) throws IOException {
+            long size = channel.size() - channel.size() % Long.BYTES;
+            ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_BYTES);
+            for (long position = 0; position < size; position += buffer.limit()) {
+                buffer.clear().limit((int) Math.min(READ_BUFFER_BYTES, size - position));
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, position + buffer.position()) < 0) {
+                        throw new EOFException("Chunk file shrank while reading");
+                    }
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    seen.add(buffer.getLong());
+                }
+            }
+            // Drop a partially written trailing entry
+            if (channel.size() != size) {
+                channel.truncate(size);
+            }
+        }
+
+        void appendChunk(long chunkPos) {
+            if (chunksChannel == null) {
+                return;
+            }
+            if (pendingCount == pendingChunks.length) {
+                long[] grown = new long[pendingChunks.length * 2];
+                System.arraycopy(pendingChunks, 0, grown, 0, pendingCount);
+                pendingChunks = grown;
+            }
+            pendingChunks[pendingCount++] = chunkPos;
+        }
+
+        long[] takePendingChunks() {
+            long[] chunks = new long[pendingCount];
+            System.arraycopy(pendingChunks, 0, chunks, 0, pendingCount);
+            pendingCount = 0;
+            return chunks;
+        }
+
+        /**
+         * Hand the counts added since the last flush to the IO thread and start a new set.
+         */
+        long[] takeDeltas() {
+            long[] taken = deltas;
+            deltas = new long[ORE_COUNT * HEIGHT];
+            return taken;
+        }
+
+        /**
+         * Append seen chunks, then add their counts to the mapped counters and force those to disk.
+         * If the chunks can't be written, their counts are dropped rather than risk counting them twice.
+         * Runs on the IO thread.
+         */
+        void write(long[] chunks, long[] deltas) {
+            if (mapping == null || counters == null || chunksChannel == null) {
+                return;
+            }
+            try {
+                ByteBuffer buffer = ByteBuffer.allocate(chunks.length * Long.BYTES);
+                buffer.asLongBuffer().put(chunks);
+                while (buffer.hasRemaining()) {
+                    chunksChannel.write(buffer);
+                }
+                chunksChannel.force(false);
+            } catch (IOException e) {
+                OreOracleMod.LOGGER.error("Failed to write ore observations", e);
+                return;
+            }
+            for (int i = 0; i < deltas.length; i++) {
+                if (deltas[i] != 0) {
+                    counters.put(i, counters.get(i) + deltas[i]);
+                }
+            }
+            mapping.force();
+        }
+
+        /**
+         * Close the channels; the mapping stays valid until it is garbage collected. Runs on the IO thread.
+         */
+        void close() {
+            try {
+                if (countersChannel != null) {
+                    countersChannel.close();
+                }
+                if (chunksChannel != null) {
+                    chunksChannel.close();
+                }
+            } catch (IOException e) {
+                OreOracleMod.LOGGER.error("Failed to close ore observations", e);
+            }
+        }
+    }
+}
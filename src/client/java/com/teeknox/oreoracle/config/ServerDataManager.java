@@ -4,7 +4,9 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.teeknox.oreoracle.OreOracleMod;
 import com.teeknox.oreoracle.data.Ore;
+import com.teeknox.oreoracle.data.OreFilter;
 import com.teeknox.oreoracle.data.ProbabilityTier;
+import com.teeknox.oreoracle.telemetry.Telemetry;
 import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.network.ServerInfo;
@@ -13,7 +15,9 @@ import org.jetbrains.annotations.Nullable;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -22,7 +26,7 @@ import java.util.Set;
  */
 public class ServerDataManager {
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
-    private static final Path DATA_DIR = FabricLoader.getInstance()
+    static final Path DATA_DIR = FabricLoader.getInstance()
             .getConfigDir().resolve("ore-oracle-data");
 
     private static ServerDataManager instance;
@@ -60,21 +64,34 @@ public class ServerDataManager {
 
     /**
      * Save current data for the current server.
+     * The write happens in the background; rapid changes are coalesced into one write.
      */
     public void save() {
+        long start = Telemetry.start(Telemetry.Timer.SERVER_DATA_SAVE);
         if (currentServerId != null && currentData != null) {
             saveData(currentServerId, currentData);
         }
+        Telemetry.stop(Telemetry.Timer.SERVER_DATA_SAVE, start);
     }
 
     /**
      * Clear current server data (called on disconnect).
+     * Pending changes are flushed to disk first.
      */
     public void clear() {
+        WriteBehindPersister.getInstance().flush();
         currentData = null;
         currentServerId = null;
     }
 
+    /**
+     * Get the sanitized ID of the server whose data is loaded, or null if none is.
+     */
+    @Nullable
+    public String getCurrentServerId() {
+        return currentServerId;
+    }
+
     /**
      * Get the set of specifically tracked ore IDs.
      */
@@ -83,12 +100,40 @@ public class ServerDataManager {
         return currentData.trackedOres;
     }
 
+    /**
+     * Get the tracked vanilla ores, in declaration order.
+     */
+    public List<Ore> getTrackedOreList() {
+        ensureLoaded();
+        List<Ore> ores = new ArrayList<>();
+        for (long bits = currentData.trackedMask; bits != 0; bits &= bits - 1) {
+            ores.add(Ore.fromOrdinal(Long.numberOfTrailingZeros(bits)));
+        }
+        return ores;
+    }
+
     /**
      * Check if a specific ore is tracked.
      */
     public boolean isOreTracked(Ore ore) {
         ensureLoaded();
-        return currentData.trackedOres.contains(ore.getId());
+        return (currentData.trackedMask & ore.getMask()) != 0;
+    }
+
+    /**
+     * Get the tracked vanilla ores as a bitmask of {@link Ore} ordinals.
+     */
+    public long getTrackedMask() {
+        ensureLoaded();
+        return currentData.trackedMask;
+    }
+
+    /**
+     * Get the tiers shown by the current probability filter (see {@link OreFilter#visibleTiers}).
+     */
+    public int getVisibleTiers() {
+        ensureLoaded();
+        return currentData.visibleTiers;
     }
 
     /**
@@ -98,8 +143,10 @@ public class ServerDataManager {
         ensureLoaded();
         if (tracked) {
             currentData.trackedOres.add(ore.getId());
+            currentData.trackedMask |= ore.getMask();
         } else {
             currentData.trackedOres.remove(ore.getId());
+            currentData.trackedMask &= ~ore.getMask();
         }
         save();
     }
@@ -125,6 +172,7 @@ public class ServerDataManager {
     public void setProbabilityFilter(ProbabilityTier filter) {
         ensureLoaded();
         currentData.probabilityFilter = filter;
+        currentData.visibleTiers = OreFilter.visibleTiers(filter);
         save();
     }
 
@@ -137,25 +185,10 @@ public class ServerDataManager {
      */
     public boolean shouldDisplayOre(Ore ore, ProbabilityTier tier) {
         ensureLoaded();
-
-        // NONE filter = "Specific" mode - ONLY show tracked ores
-        if (currentData.probabilityFilter == ProbabilityTier.NONE) {
-            return isOreTracked(ore);
-        }
-
-        // For other filters, tracked ores are ignored (filter takes precedence)
-        // Don't show if no probability at this Y-level
-        if (tier == ProbabilityTier.NONE) {
-            return false;
+        if (currentData.visibleTiers == 0) {
+            return (currentData.trackedMask & ore.getMask()) != 0;
         }
-
-        // Check against filter (cumulative)
-        return switch (currentData.probabilityFilter) {
-            case GREEN -> tier == ProbabilityTier.GREEN;
-            case YELLOW -> tier == ProbabilityTier.GREEN || tier == ProbabilityTier.YELLOW;
-            case RED -> tier != ProbabilityTier.NONE;
-            case NONE -> false; // Already handled above, but needed for completeness
-        };
+        return (currentData.visibleTiers & 1 << tier.ordinal()) != 0;
     }
 
     private void ensureLoaded() {
@@ -211,6 +244,7 @@ public class ServerDataManager {
                     if (data.probabilityFilter == null) {
                         data.probabilityFilter = ProbabilityTier.RED;
                     }
+                    data.updateMasks();
                     return data;
                 }
             } catch (IOException e) {
@@ -222,19 +256,44 @@ public class ServerDataManager {
 
     private void saveData(String serverId, ServerData data) {
         Path filePath = DATA_DIR.resolve(serverId + ".json");
-        try {
-            Files.createDirectories(DATA_DIR);
-            Files.writeString(filePath, GSON.toJson(data));
-        } catch (IOException e) {
-            OreOracleMod.LOGGER.error("Failed to save server data for {}", serverId, e);
-        }
+        // Serialize a copy on the IO thread so later changes don't race the write
+        ServerData snapshot = data.copy();
+        WriteBehindPersister.getInstance().schedule(filePath, () -> GSON.toJson(snapshot));
     }
 
     /**
      * Per-server data structure.
+     * The JSON keeps ore IDs (including IDs of non-vanilla ores); lookups use the derived bitmasks.
      */
     private static class ServerData {
         Set<String> trackedOres = new HashSet<>();
         ProbabilityTier probabilityFilter = ProbabilityTier.RED; // Default: show all spawning ores
+
+        // Derived from the fields above, not serialized
+        transient long trackedMask;
+        transient int visibleTiers = OreFilter.visibleTiers(ProbabilityTier.RED);
+
+        /**
+         * Rebuild the bitmasks after the serialized fields were loaded.
+         */
+        void updateMasks() {
+            trackedMask = 0;
+            for (String id : trackedOres) {
+                Ore ore = Ore.fromId(id);
+                if (ore != null) {
+                    trackedMask |= ore.getMask();
+                }
+            }
+            visibleTiers = OreFilter.visibleTiers(probabilityFilter);
+        }
+
+        ServerData copy() {
+            ServerData copy = new ServerData();
+            copy.trackedOres = new HashSet<>(trackedOres);
+            copy.probabilityFilter = probabilityFilter;
+            copy.trackedMask = trackedMask;
+            copy.visibleTiers = visibleTiers;
+            return copy;
+        }
     }
 }
@@ -0,0 +1,164 @@
+package com.teeknox.oreoracle.config;
+
+import com.teeknox.oreoracle.OreOracleMod;
+import com.teeknox.oreoracle.telemetry.OreOracleEvents;
+import com.teeknox.oreoracle.telemetry.Telemetry;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Writes config files on a background thread.
+ * Callers mark a file dirty with a snapshot of its contents; repeated changes within the
+ * debounce window replace the pending snapshot, so a burst of clicks produces one write.
+ * Files are written to a temporary file and moved into place, so a crash mid-write never
+ * leaves half-written JSON behind.
+ * A write can carry a callback that runs on the IO thread once the file is in place, so callers
+ * only treat data as saved after it really was. Failed writes are logged and not retried here.
+ * Other IO work can be queued with {@link #execute}; it runs in order with the writes.
+ */
+public final class WriteBehindPersister {
+    private static final long DEBOUNCE_MS = 500;
+    private static final long FLUSH_TIMEOUT_SECONDS = 5;
+
+    private static WriteBehindPersister instance;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Ore Oracle IO");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<Path, PendingWrite> pending = new ConcurrentHashMap<>();
+    private ScheduledFuture<?> scheduledWrite;
+
+    private WriteBehindPersister() {}
+
+    public static synchronized WriteBehindPersister getInstance() {
+        if (instance == null) {
+            instance = new WriteBehindPersister();
+        }
+        return instance;
+    }
+
+    /**
+     * Mark a file dirty. The contents are produced on the IO thread, so the supplier must only
+     * capture an immutable snapshot of the data to write.
+     */
+    public void schedule(Path path, Supplier<String> contents) {
+        schedule(path, contents, null);
+    }
+
+    /**
+     * Mark a file dirty and run {@code onWritten} on the IO thread once these contents were written.
+     * The callback doesn't run if the write fails or newer contents replace these first.
+     */
+    public synchronized void schedule(Path path, Supplier<String> contents, @Nullable Runnable onWritten) {
+        pending.put(path, new PendingWrite(contents, onWritten));
+        if (scheduledWrite != null) {
+            scheduledWrite.cancel(false);
+        }
+        scheduledWrite = executor.schedule(this::writePending, DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Run an IO task on the background thread. {@link #flush()} waits for tasks queued before it.
+     */
+    public void execute(Runnable task) {
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                OreOracleMod.LOGGER.error("Background IO task failed", e);
+            }
+        });
+    }
+
+    /**
+     * Write all pending files now and wait for them to reach disk.
+     * Called on disconnect and when the client stops.
+     */
+    public void flush() {
+        synchronized (this) {
+            if (scheduledWrite != null) {
+                scheduledWrite.cancel(false);
+                scheduledWrite = null;
+            }
+        }
+        try {
+            executor.submit(this::writePending).get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            OreOracleMod.LOGGER.error("Failed to flush pending config writes", e);
+        }
+    }
+
+    private void writePending() {
+        for (Map.Entry<Path, PendingWrite> entry : pending.entrySet()) {
+            Path path = entry.getKey();
+            PendingWrite write = entry.getValue();
+            // Only drop the entry if it wasn't replaced by a newer snapshot meanwhile
+            if (pending.remove(path, write)) {
+                long start = Telemetry.start(Telemetry.Timer.FILE_WRITE);
+                OreOracleEvents.FileWrite event = new OreOracleEvents.FileWrite();
+                event.begin();
+                String text = write.contents().get();
+                if (write(path, text) && write.onWritten() != null) {
+                    write.onWritten().run();
+                }
+                if (event.shouldCommit()) {
+                    event.path = path.toString();
+                    event.characters = text.length();
+                    event.commit();
+                }
+                Telemetry.stop(Telemetry.Timer.FILE_WRITE, start);
+            }
+        }
+    }
+
+    /**
+     * Write a file through a temporary file.
+     *
+     * @return true if the file was written
+     */
+    private static boolean write(Path path, String contents) {
+        Path tempFile = null;
+        try {
+            Path dir = path.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            tempFile = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+            Files.writeString(tempFile, contents);
+            try {
+                Files.move(tempFile, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException e) {
+            OreOracleMod.LOGGER.error("Failed to write {}", path, e);
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ignored) {
+                    // Best effort cleanup
+                }
+            }
+            return false;
+        }
+    }
+
+    private record PendingWrite(Supplier<String> contents, @Nullable Runnable onWritten) {}
+}
@@ -3,8 +3,9 @@ package com.teeknox.oreoracle.data;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.BiomeTags;
+import net.minecraft.registry.tag.TagKey;
 import net.minecraft.util.Identifier;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.biome.Biome;
 import org.jetbrains.annotations.Nullable;
 
@@ -18,7 +19,7 @@ public class BiomeChecker {
     /**
      * Mountain biomes where Emerald can spawn.
      */
-    private static final Set<Identifier> MOUNTAIN_BIOMES = Set.of(
+    private static final Set<Identifier> DEFAULT_MOUNTAIN_BIOMES = Set.of(
             Identifier.of("minecraft", "meadow"),
             Identifier.of("minecraft", "cherry_grove"),
             Identifier.of("minecraft", "grove"),
@@ -34,40 +35,99 @@ public class BiomeChecker {
     /**
      * Badlands biomes where Gold spawns up to Y=255.
      */
-    private static final Set<Identifier> BADLANDS_BIOMES = Set.of(
+    private static final Set<Identifier> DEFAULT_BADLANDS_BIOMES = Set.of(
             Identifier.of("minecraft", "badlands"),
             Identifier.of("minecraft", "wooded_badlands"),
             Identifier.of("minecraft", "eroded_badlands")
     );
 
+    /**
+     * Biome tags that also count as mountain / badlands, so datapack and modded biomes classify correctly.
+     */
+    private static final Set<TagKey<Biome>> DEFAULT_MOUNTAIN_TAGS = Set.of(BiomeTags.IS_MOUNTAIN);
+    private static final Set<TagKey<Biome>> DEFAULT_BADLANDS_TAGS = Set.of(BiomeTags.IS_BADLANDS);
+
+    // Active biome lists, replaced when ore distribution resources are loaded
+    private static volatile Set<Identifier> mountainBiomes = DEFAULT_MOUNTAIN_BIOMES;
+    private static volatile Set<Identifier> badlandsBiomes = DEFAULT_BADLANDS_BIOMES;
+    private static volatile Set<TagKey<Biome>> mountainTags = DEFAULT_MOUNTAIN_TAGS;
+    private static volatile Set<TagKey<Biome>> badlandsTags = DEFAULT_BADLANDS_TAGS;
+
+    /**
+     * Replace the mountain and badlands biome lists.
+     * A class with neither biomes nor tags restores its built-in defaults.
+     */
+    public static void setBiomeClasses(Set<Identifier> mountain, Set<TagKey<Biome>> mountainTagSet,
+                                       Set<Identifier> badlands, Set<TagKey<Biome>> badlandsTagSet) {
+        boolean mountainDefaults = mountain.isEmpty() && mountainTagSet.isEmpty();
+        boolean badlandsDefaults = badlands.isEmpty() && badlandsTagSet.isEmpty();
+        mountainBiomes = mountainDefaults ? DEFAULT_MOUNTAIN_BIOMES : Set.copyOf(mountain);
+        mountainTags = mountainDefaults ? DEFAULT_MOUNTAIN_TAGS : Set.copyOf(mountainTagSet);
+        badlandsBiomes = badlandsDefaults ? DEFAULT_BADLANDS_BIOMES : Set.copyOf(badlands);
+        badlandsTags = badlandsDefaults ? DEFAULT_BADLANDS_TAGS : Set.copyOf(badlandsTagSet);
+    }
+
     /**
      * Check if the given biome is a mountain biome (where emerald spawns).
+     * Only explicit biome IDs are checked; use {@link #classify(RegistryEntry)} to include tags.
      */
     public static boolean isMountainBiome(@Nullable Identifier biome) {
-        return biome != null && MOUNTAIN_BIOMES.contains(biome);
+        return biome != null && mountainBiomes.contains(biome);
     }
 
     /**
      * Check if the given biome is a badlands biome (where gold has extended spawning).
+     * Only explicit biome IDs are checked; use {@link #classify(RegistryEntry)} to include tags.
      */
     public static boolean isBadlandsBiome(@Nullable Identifier biome) {
-        return biome != null && BADLANDS_BIOMES.contains(biome);
+        return biome != null && badlandsBiomes.contains(biome);
     }
 
     /**
-     * Get the current biome at the player's position.
+     * Classify a registry biome for ore distribution lookups, checking both biome IDs and tags.
+     * Used to build {@link BiomeClassifier} tables; prefer the classifier for per-lookup checks.
      */
-    @Nullable
-    public static Identifier getCurrentBiome(MinecraftClient client) {
-        if (client.player == null || client.world == null) {
-            return null;
+    public static BiomeClass classify(RegistryEntry<Biome> biome) {
+        Identifier id = biome.getKey().map(RegistryKey::getValue).orElse(null);
+        if (isMountainBiome(id) || isInAny(biome, mountainTags)) {
+            return BiomeClass.MOUNTAIN;
+        }
+        if (isBadlandsBiome(id) || isInAny(biome, badlandsTags)) {
+            return BiomeClass.BADLANDS;
+        }
+        return BiomeClass.NORMAL;
+    }
+
+    private static boolean isInAny(RegistryEntry<Biome> biome, Set<TagKey<Biome>> tags) {
+        for (TagKey<Biome> tag : tags) {
+            if (biome.isIn(tag)) {
+                return true;
+            }
         }
+        return false;
+    }
 
-        BlockPos pos = client.player.getBlockPos();
-        RegistryEntry<Biome> biomeEntry = client.world.getBiome(pos);
+    /**
+     * Classify a biome by ID for ore distribution lookups (tags are not considered).
+     */
+    public static BiomeClass classify(@Nullable Identifier biome) {
+        if (isMountainBiome(biome)) {
+            return BiomeClass.MOUNTAIN;
+        }
+        if (isBadlandsBiome(biome)) {
+            return BiomeClass.BADLANDS;
+        }
+        return BiomeClass.NORMAL;
+    }
 
-        return biomeEntry.getKey()
-                .map(RegistryKey::getValue)
-                .orElse(null);
+    /**
+     * Get the current biome at the player's position.
+     * Resolved through {@link BiomeResolver}, so repeated calls within a biome cell are cached.
+     */
+    @Nullable
+    public static Identifier getCurrentBiome(MinecraftClient client) {
+        BiomeResolver resolver = BiomeResolver.getInstance();
+        resolver.update(client);
+        return resolver.getBiome();
     }
 }
@@ -0,0 +1,107 @@
+package com.teeknox.oreoracle.data;
+
+import net.minecraft.registry.DynamicRegistryManager;
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.util.Identifier;
+import net.minecraft.world.biome.Biome;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Classifies biomes by raw registry ID using precomputed bitsets.
+ * The bitsets are rebuilt from the client's dynamic registries whenever they are synced
+ * (join, tag reload) or the biome lists change, so classification is a single bit test
+ * instead of hashing an Identifier into a set.
+ */
+public final class BiomeClassifier {
+    @Nullable
+    private static DynamicRegistryManager registries;
+    @Nullable
+    private static volatile Table table;
+
+    private BiomeClassifier() {}
+
+    /**
+     * Rebuild the bitsets from newly synced registries (called on join and tag reload).
+     */
+    public static void rebuild(DynamicRegistryManager registryManager) {
+        registries = registryManager;
+        rebuild();
+    }
+
+    /**
+     * Rebuild the bitsets from the last synced registries (called when the biome lists change).
+     */
+    public static void rebuild() {
+        DynamicRegistryManager current = registries;
+        table = current != null ? Table.build(current.getOrThrow(RegistryKeys.BIOME)) : null;
+    }
+
+    /**
+     * Drop the bitsets and registries (called on disconnect).
+     */
+    public static void clear() {
+        registries = null;
+        table = null;
+    }
+
+    /**
+     * Classify a biome entry from the current world.
+     * Falls back to ID-only classification when no bitsets are available for its registry.
+     */
+    public static BiomeClass classify(RegistryEntry<Biome> biome, @Nullable Identifier biomeId) {
+        Table current = table;
+        if (current != null) {
+            int rawId = current.registry.getRawId(biome.value());
+            if (rawId >= 0 && rawId < current.size) {
+                return current.classify(rawId);
+            }
+        }
+        return BiomeChecker.classify(biomeId);
+    }
+
+    /**
+     * Mountain and badlands bitsets for one biome registry instance.
+     */
+    private static final class Table {
+        private final Registry<Biome> registry;
+        private final int size;
+        private final long[] mountain;
+        private final long[] badlands;
+
+        private Table(Registry<Biome> registry) {
+            this.registry = registry;
+            this.size = registry.size();
+            this.mountain = new long[(size + 63) >>> 6];
+            this.badlands = new long[(size + 63) >>> 6];
+        }
+
+        static Table build(Registry<Biome> registry) {
+            Table table = new Table(registry);
+            registry.streamEntries().forEach(entry -> {
+                int rawId = registry.getRawId(entry.value());
+                if (rawId < 0 || rawId >= table.size) {
+                    return;
+                }
+                switch (BiomeChecker.classify(entry)) {
+                    case MOUNTAIN -> table.mountain[rawId >>> 6] |= 1L << rawId;
+                    case BADLANDS -> table.badlands[rawId >>> 6] |= 1L << rawId;
+                    case NORMAL -> {}
+                }
+            });
+            return table;
+        }
+
+        BiomeClass classify(int rawId) {
+            long bit = 1L << rawId;
+            if ((mountain[rawId >>> 6] & bit) != 0) {
+                return BiomeClass.MOUNTAIN;
+            }
+            if ((badlands[rawId >>> 6] & bit) != 0) {
+                return BiomeClass.BADLANDS;
+            }
+            return BiomeClass.NORMAL;
+        }
+    }
+}
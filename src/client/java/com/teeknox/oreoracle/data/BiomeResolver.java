@@ -0,0 +1,139 @@
+package com.teeknox.oreoracle.data;
+
+import com.teeknox.oreoracle.telemetry.Telemetry;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.biome.Biome;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Caches the player's biome and dimension between frames.
+ * The biome is re-resolved only when the player enters a different biome cell
+ * (4x4x4 quart position) and the dimension only when the ClientWorld instance changes,
+ * so standing still or moving within a cell costs no registry lookups.
+ *
+ * Biomes are read per cell with getBiomeForNoiseGen rather than the per-block fuzzed
+ * getBiome lookup, so every block in a cell resolves to the same biome.
+ * Only accessed from the client thread.
+ */
+public class BiomeResolver {
+    private static final long NO_CELL = Long.MIN_VALUE;
+
+    private static BiomeResolver instance;
+
+    private ClientWorld lastWorld;
+    private long lastCell = NO_CELL;
+    @Nullable
+    private Identifier biome;
+    private BiomeClass biomeClass = BiomeClass.NORMAL;
+    @Nullable
+    private Dimension dimension;
+
+    private long hits;
+    private long misses;
+
+    private BiomeResolver() {}
+
+    public static BiomeResolver getInstance() {
+        if (instance == null) {
+            instance = new BiomeResolver();
+        }
+        return instance;
+    }
+
+    /**
+     * Resolve the biome and dimension at the player's position, reusing the last result if possible.
+     */
+    public void update(MinecraftClient client) {
+        long start = Telemetry.start(Telemetry.Timer.BIOME);
+        resolve(client);
+        Telemetry.stop(Telemetry.Timer.BIOME, start);
+    }
+
+    private void resolve(MinecraftClient client) {
+        ClientPlayerEntity player = client.player;
+        ClientWorld world = client.world;
+        if (player == null || world == null) {
+            reset();
+            return;
+        }
+
+        if (world != lastWorld) {
+            lastWorld = world;
+            lastCell = NO_CELL;
+            dimension = WorldDimensions.fromWorld(world);
+        }
+
+        int quartX = player.getBlockX() >> 2;
+        int quartY = player.getBlockY() >> 2;
+        int quartZ = player.getBlockZ() >> 2;
+        long cell = BlockPos.asLong(quartX, quartY, quartZ);
+        if (cell == lastCell) {
+            hits++;
+            return;
+        }
+
+        misses++;
+        RegistryEntry<Biome> biomeEntry = world.getBiomeForNoiseGen(quartX, quartY, quartZ);
+        biome = getKey(biomeEntry);
+        biomeClass = BiomeClassifier.classify(biomeEntry, biome);
+
+        // Don't cache the placeholder biome returned for chunks that aren't loaded yet
+        lastCell = world.getChunkManager().isChunkLoaded(quartX >> 2, quartZ >> 2) ? cell : NO_CELL;
+    }
+
+    /**
+     * Forget the cached results (called on disconnect).
+     */
+    public void reset() {
+        lastWorld = null;
+        lastCell = NO_CELL;
+        biome = null;
+        biomeClass = BiomeClass.NORMAL;
+        dimension = null;
+    }
+
+    @Nullable
+    public Identifier getBiome() {
+        return biome;
+    }
+
+    public BiomeClass getBiomeClass() {
+        return biomeClass;
+    }
+
+    @Nullable
+    public Dimension getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Number of updates answered from the cached cell.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Number of updates that required a biome lookup.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    @Nullable
+    static Identifier getKey(RegistryEntry<Biome> biomeEntry) {
+        // Read the key directly from registry references; getKey() allocates an Optional per call
+        if (biomeEntry instanceof RegistryEntry.Reference<Biome> reference) {
+            return reference.registryKey().getValue();
+        }
+        return biomeEntry.getKey()
+                .map(RegistryKey::getValue)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,180 @@
+package com.teeknox.oreoracle.data;
+
+import com.teeknox.oreoracle.config.ModConfig;
+import com.teeknox.oreoracle.telemetry.Telemetry;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.biome.Biome;
+
+/**
+ * Surveys the biome grid in a square of chunks around the player and publishes the share of
+ * mountain and badlands cells as a {@link BiomeMix}, so emerald and badlands gold don't flip
+ * on and off at every biome border.
+ *
+ * Each chunk section is sampled once at its middle quart layer (16 biome cells) and the counts are
+ * kept in an {@link IntChunkTileCache} by packed section position, which stays bounded however far
+ * the player travels and is invalidated in O(1) when the world changes. The survey runs on the
+ * client tick and only does work when the player enters another section, the radius changes or
+ * sections are still unsampled; at most {@link #SAMPLES_PER_TICK} new sections are sampled per
+ * tick, nearest first, so moving into new terrain spreads the cost over a few ticks. Sections in
+ * unloaded chunks are retried once a second.
+ * Only accessed from the client thread.
+ */
+public class BiomeSurvey {
+    /** Largest configurable radius, in chunks. */
+    public static final int MAX_RADIUS = 8;
+
+    private static final int SAMPLES_PER_TICK = 8;
+    private static final int RETRY_TICKS = 20;
+    private static final int CELLS_PER_SECTION = 16;
+    // Enough for the largest radius over several section layers
+    private static final int MAX_CACHED = 4096;
+    private static final long NO_SECTION = Long.MIN_VALUE;
+    private static final int UNSAMPLED = -1;
+
+    private static BiomeSurvey instance;
+
+    // Packed section position -> mountain cells | badlands cells << 8
+    private final IntChunkTileCache sections = new IntChunkTileCache(MAX_CACHED);
+    private ClientWorld lastWorld;
+    private long center = NO_SECTION;
+    private int radius;
+    private boolean pending;
+    private int ticksUntilRetry;
+
+    private BiomeMix mix = BiomeMix.NONE;
+
+    private BiomeSurvey() {}
+
+    public static BiomeSurvey getInstance() {
+        if (instance == null) {
+            instance = new BiomeSurvey();
+        }
+        return instance;
+    }
+
+    /**
+     * Sample new sections around the player and update the mix. Called at the end of every client
+     * tick, before the overlay's tick reads the mix to rebuild its snapshot.
+     */
+    public void tick(MinecraftClient client) {
+        long start = Telemetry.start(Telemetry.Timer.SURVEY);
+        update(client);
+        Telemetry.stop(Telemetry.Timer.SURVEY, start);
+    }
+
+    private void update(MinecraftClient client) {
+        ModConfig.Snapshot config = ModConfig.getInstance().getSnapshot();
+        ClientPlayerEntity player = client.player;
+        ClientWorld world = client.world;
+        int configuredRadius = Math.min(config.surveyRadius(), MAX_RADIUS);
+        if (!config.enabled() || configuredRadius <= 0 || player == null || world == null) {
+            center = NO_SECTION;
+            mix = BiomeMix.NONE;
+            return;
+        }
+
+        if (world != lastWorld) {
+            lastWorld = world;
+            sections.invalidate();
+            center = NO_SECTION;
+        }
+
+        int sectionX = player.getBlockX() >> 4;
+        int sectionY = player.getBlockY() >> 4;
+        int sectionZ = player.getBlockZ() >> 4;
+        long section = ChunkSectionPos.asLong(sectionX, sectionY, sectionZ);
+        if (section == center && configuredRadius == radius && !pending && --ticksUntilRetry > 0) {
+            return;
+        }
+        center = section;
+        radius = configuredRadius;
+        pending = false;
+        ticksUntilRetry = Integer.MAX_VALUE;
+
+        int budget = SAMPLES_PER_TICK;
+        int mountain = 0;
+        int badlands = 0;
+        int total = 0;
+        for (int ring = 0; ring <= radius; ring++) {
+            for (int dx = -ring; dx <= ring; dx++) {
+                for (int dz = -ring; dz <= ring; dz++) {
+                    if (Math.max(Math.abs(dx), Math.abs(dz)) != ring) {
+                        continue;
+                    }
+                    int x = sectionX + dx;
+                    int z = sectionZ + dz;
+                    long key = ChunkSectionPos.asLong(x, sectionY, z);
+                    int counts = sections.getOrDefault(key, UNSAMPLED);
+                    if (counts == UNSAMPLED) {
+                        if (!world.getChunkManager().isChunkLoaded(x, z)) {
+                            ticksUntilRetry = RETRY_TICKS;
+                            continue;
+                        }
+                        if (budget == 0) {
+                            pending = true;
+                            continue;
+                        }
+                        budget--;
+                        counts = sample(world, x, sectionY, z);
+                        sections.put(key, counts);
+                    }
+                    mountain += counts & 0xFF;
+                    badlands += counts >>> 8;
+                    total += CELLS_PER_SECTION;
+                }
+            }
+        }
+        mix = BiomeMix.of(mountain, badlands, total);
+    }
+
+    /**
+     * Count the mountain and badlands cells in the middle quart layer of a section.
+     *
+     * @return Mountain cells | badlands cells << 8
+     */
+    private static int sample(ClientWorld world, int sectionX, int sectionY, int sectionZ) {
+        int quartY = (sectionY << 2) + 2;
+        int mountain = 0;
+        int badlands = 0;
+        for (int qx = 0; qx < 4; qx++) {
+            for (int qz = 0; qz < 4; qz++) {
+                RegistryEntry<Biome> biome = world.getBiomeForNoiseGen((sectionX << 2) + qx, quartY,
+                        (sectionZ << 2) + qz);
+                switch (BiomeClassifier.classify(biome, BiomeResolver.getKey(biome))) {
+                    case MOUNTAIN -> mountain++;
+                    case BADLANDS -> badlands++;
+                    case NORMAL -> {}
+                }
+            }
+        }
+        return mountain | badlands << 8;
+    }
+
+    /**
+     * Forget every sampled section (called on disconnect and when the biome classes change).
+     */
+    public void reset() {
+        sections.clear();
+        lastWorld = null;
+        center = NO_SECTION;
+        mix = BiomeMix.NONE;
+    }
+
+    /**
+     * Get the biome shares around the player, or {@link BiomeMix#NONE} while the survey is off.
+     */
+    public BiomeMix getMix() {
+        return mix;
+    }
+
+    /**
+     * Get the section cache, for its hit, miss and eviction counts.
+     */
+    public IntChunkTileCache getCache() {
+        return sections;
+    }
+}
@@ -0,0 +1,98 @@
+package com.teeknox.oreoracle.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-Y ore block counts found in one chunk.
+ * Only sections that contain ore are stored, so chunks without ore cost almost nothing.
+ *
+ * @param chunkPos Packed chunk position ({@link net.minecraft.util.math.ChunkPos#toLong})
+ * @param sections Counts for each section that contained ore
+ */
+public record ChunkOreCounts(long chunkPos, List<Section> sections) {
+    private static final Ore[] ORES = Ore.values();
+    private static final int ORE_COUNT = ORES.length;
+
+    /**
+     * Create counts with no sections, to be filled through {@link #adjust}.
+     */
+    static ChunkOreCounts empty(long chunkPos) {
+        return new ChunkOreCounts(chunkPos, new ArrayList<>());
+    }
+
+    /**
+     * Change the count of one ore at a Y-level, adding its section if needed.
+     * Only valid on counts created with {@link #empty}.
+     */
+    void adjust(Ore ore, int y, int delta) {
+        int minY = y & ~15;
+        for (Section section : sections) {
+            if (section.minY == minY) {
+                section.counts[ore.ordinal() * 16 + (y - minY)] += delta;
+                return;
+            }
+        }
+        Section section = Section.empty(minY);
+        section.counts[ore.ordinal() * 16 + (y - minY)] = delta;
+        sections.add(section);
+    }
+
+    /**
+     * Call a visitor for every non-zero count.
+     */
+    public void forEach(CountVisitor visitor) {
+        for (Section section : sections) {
+            for (int index = 0; index < section.counts.length; index++) {
+                int count = section.counts[index];
+                if (count != 0) {
+                    visitor.accept(ORES[index / 16], section.minY + index % 16, count);
+                }
+            }
+        }
+    }
+
+    /**
+     * Add (sign = 1) or remove (sign = -1) these counts from a histogram.
+     *
+     * @param counts [ore ordinal][y - {@link OreTierTable#MIN_Y}] block counts
+     */
+    void addTo(long[][] counts, int sign) {
+        for (Section section : sections) {
+            for (int ore = 0; ore < ORE_COUNT; ore++) {
+                long[] rows = counts[ore];
+                for (int dy = 0; dy < 16; dy++) {
+                    int count = section.counts[ore * 16 + dy];
+                    int row = section.minY + dy - OreTierTable.MIN_Y;
+                    if (count != 0 && row >= 0 && row < rows.length) {
+                        rows[row] += (long) sign * count;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Receives the count of one ore at one Y-level.
+     */
+    @FunctionalInterface
+    public interface CountVisitor {
+        void accept(Ore ore, int y, int count);
+    }
+
+    /**
+     * Ore counts for one 16-block-tall chunk section.
+     *
+     * @param minY   Y-level of the section's bottom layer
+     * @param counts Blocks per [ore ordinal * 16 + layer]
+     */
+    public record Section(int minY, int[] counts) {
+        static Section empty(int minY) {
+            return new Section(minY, new int[ORE_COUNT * 16]);
+        }
+
+        void increment(Ore ore, int layer) {
+            counts[ore.ordinal() * 16 + layer]++;
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package com.teeknox.oreoracle.data;
+
+import com.teeknox.oreoracle.OreOracleMod;
+import com.teeknox.oreoracle.config.ModConfig;
+import com.teeknox.oreoracle.config.OreObservationStore;
+import com.teeknox.oreoracle.telemetry.OreOracleEvents;
+import com.teeknox.oreoracle.telemetry.Telemetry;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.PalettedContainer;
+import net.minecraft.world.chunk.WorldChunk;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+/**
+ * Keeps the {@link OreHistogram} equal to the ore in the chunks the client has loaded ("empirical mode").
+ *
+ * Chunk loads, unloads and block changes are queued as they happen and applied in order by a single
+ * consumer at the end of the client tick, so the histogram stays exact without rescanning:
+ * loads add a chunk's counts, unloads subtract them again, and block changes are applied as deltas.
+ *
+ * Chunks seen for the first time on this server are also recorded in {@link OreObservationStore}.
+ *
+ * A loaded chunk is counted once. Each section's block palette is checked first, so sections whose
+ * palette holds no ore block are skipped without touching block data. Sections that do contain ore
+ * are copied on the client thread and counted on a dedicated ForkJoin pool.
+ */
+public class ChunkOreScanner {
+    private static final int MAX_CHUNKS_PER_PASS = 16;
+    private static final int MAX_IN_FLIGHT = 64;
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+
+    private static final Map<Block, Ore> ORE_BY_BLOCK = new IdentityHashMap<>();
+    private static final Predicate<BlockState> IS_ORE = state -> ORE_BY_BLOCK.containsKey(state.getBlock());
+
+    static {
+        for (Ore ore : Ore.values()) {
+            for (Block block : OreBlocks.getBlocks(ore)) {
+                ORE_BY_BLOCK.put(block, ore);
+            }
+        }
+    }
+
+    private static ChunkOreScanner instance;
+
+    // Chunk and block events in the order they happened; drained by tick()
+    private final Queue<Update> updates = new ConcurrentLinkedQueue<>();
+    // Completed scans waiting to be merged on the client thread
+    private final Queue<ScanResult> completed = new ConcurrentLinkedQueue<>();
+    // Chunks whose counts are in the histogram, by packed position (client thread only)
+    private final Map<Long, TrackedChunk> tracked = new HashMap<>();
+    private volatile boolean active;
+    private ClientWorld world;
+    private Dimension dimension;
+    private boolean sweeping;
+    private long nextScanId;
+    private int inFlight;
+
+    private ChunkOreScanner() {}
+
+    public static ChunkOreScanner getInstance() {
+        if (instance == null) {
+            instance = new ChunkOreScanner();
+        }
+        return instance;
+    }
+
+    /**
+     * Queue a newly loaded chunk (ClientChunkEvents.CHUNK_LOAD).
+     */
+    public void onChunkLoad(ClientWorld world, WorldChunk chunk) {
+        if (active) {
+            submit(world, chunk.getPos().toLong(), chunk);
+        }
+    }
+
+    /**
+     * Queue an unloaded chunk (ClientChunkEvents.CHUNK_UNLOAD).
+     */
+    public void onChunkUnload(ClientWorld world, WorldChunk chunk) {
+        if (active) {
+            updates.add(new Unload(world, chunk.getPos().toLong()));
+        }
+    }
+
+    /**
+     * Queue a block change in a client chunk. Changes that neither remove nor place ore are ignored.
+     */
+    public void onBlockChanged(World world, BlockPos pos, BlockState previous, BlockState state) {
+        if (!active) {
+            return;
+        }
+        Ore removed = ORE_BY_BLOCK.get(previous.getBlock());
+        Ore added = ORE_BY_BLOCK.get(state.getBlock());
+        if (removed != added) {
+            long chunkPos = ChunkPos.toLong(pos.getX() >> 4, pos.getZ() >> 4);
+            updates.add(new BlockChange(world, chunkPos, pos.getY(), removed, added));
+        }
+    }
+
+    /**
+     * Apply queued updates and finished scans (called at the end of every client tick).
+     */
+    public void tick(MinecraftClient client) {
+        long start = Telemetry.start(Telemetry.Timer.SCAN);
+        update(client);
+        Telemetry.stop(Telemetry.Timer.SCAN, start);
+    }
+
+    private void update(MinecraftClient client) {
+        boolean enabled = client.world != null && ModConfig.getInstance().isEmpiricalMode();
+        if (!enabled) {
+            if (active) {
+                reset();
+                OreHistogram.getInstance().clear();
+            }
+            return;
+        }
+        if (!active) {
+            // Chunks loaded while disabled produced no events; pick them up with a sweep
+            active = true;
+            sweeping = true;
+        }
+
+        boolean changed = drainUpdates();
+        changed |= drainCompleted();
+
+        if (client.world != world) {
+            switchWorld(client.world);
+            sweeping = true;
+            changed = true;
+        }
+        if (changed) {
+            OreHistogram.getInstance().publish();
+        }
+        if (sweeping && client.player != null) {
+            sweep(client);
+        }
+    }
+
+    /**
+     * Forget all tracked chunks and pending work (called on disconnect).
+     */
+    public void reset() {
+        active = false;
+        world = null;
+        dimension = null;
+        sweeping = false;
+        tracked.clear();
+        updates.clear();
+        completed.clear();
+        inFlight = 0;
+    }
+
+    private boolean drainUpdates() {
+        OreHistogram histogram = OreHistogram.getInstance();
+        boolean changed = false;
+        Update update;
+        while ((update = updates.poll()) != null) {
+            if (update.world() != world) {
+                if (!(update instanceof Load)) {
+                    continue;
+                }
+                switchWorld((ClientWorld) update.world());
+            }
+            if (dimension == null) {
+                continue;
+            }
+
+            if (update instanceof Load load) {
+                changed |= untrack(load.chunkPos);
+                tracked.put(load.chunkPos, new TrackedChunk(load.scanId, ChunkOreCounts.empty(load.chunkPos)));
+            } else if (update instanceof Unload unload) {
+                changed |= untrack(unload.chunkPos);
+            } else if (update instanceof BlockChange change) {
+                TrackedChunk chunk = tracked.get(change.chunkPos);
+                if (chunk == null) {
+                    continue;
+                }
+                if (change.removed != null) {
+                    chunk.deltas.adjust(change.removed, change.y, -1);
+                    histogram.adjust(dimension, change.removed, change.y, -1);
+                }
+                if (change.added != null) {
+                    chunk.deltas.adjust(change.added, change.y, 1);
+                    histogram.adjust(dimension, change.added, change.y, 1);
+                }
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private boolean drainCompleted() {
+        OreHistogram histogram = OreHistogram.getInstance();
+        boolean changed = false;
+        ScanResult result;
+        while ((result = completed.poll()) != null) {
+            inFlight = Math.max(0, inFlight - 1);
+            // Scans of chunks that were unloaded or reloaded in the meantime are stale
+            TrackedChunk chunk = tracked.get(result.chunkPos);
+            if (chunk == null || chunk.scanId != result.scanId) {
+                continue;
+            }
+            if (result.counts == null) {
+                OreOracleMod.LOGGER.warn("Failed to count ore in chunk {}", new ChunkPos(result.chunkPos));
+            } else {
+                chunk.counts = result.counts;
+                histogram.add(dimension, result.counts);
+                OreObservationStore.getInstance().record(dimension, result.counts);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Subtract a tracked chunk's counts from the histogram and stop tracking it.
+     */
+    private boolean untrack(long chunkPos) {
+        TrackedChunk chunk = tracked.remove(chunkPos);
+        if (chunk == null) {
+            return false;
+        }
+        OreHistogram histogram = OreHistogram.getInstance();
+        if (chunk.counts != null) {
+            histogram.remove(dimension, chunk.counts);
+        }
+        histogram.remove(dimension, chunk.deltas);
+        return true;
+    }
+
+    private void switchWorld(@Nullable ClientWorld newWorld) {
+        for (Long chunkPos : new ArrayList<>(tracked.keySet())) {
+            untrack(chunkPos);
+        }
+        world = newWorld;
+        dimension = newWorld != null ? WorldDimensions.fromWorld(newWorld) : null;
+    }
+
+    /**
+     * Start scans for loaded chunks that are not tracked yet, a few per tick.
+     * Only needed when tracking starts after chunks were already loaded.
+     */
+    private void sweep(MinecraftClient client) {
+        ClientWorld clientWorld = client.world;
+        ChunkPos center = client.player.getChunkPos();
+        int radius = client.options.getClampedViewDistance();
+        int started = 0;
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                if (started >= MAX_CHUNKS_PER_PASS || inFlight >= MAX_IN_FLIGHT) {
+                    return;
+                }
+                int chunkX = center.x + dx;
+                int chunkZ = center.z + dz;
+                long chunkPos = ChunkPos.toLong(chunkX, chunkZ);
+                if (tracked.containsKey(chunkPos) || !clientWorld.getChunkManager().isChunkLoaded(chunkX, chunkZ)) {
+                    continue;
+                }
+                WorldChunk chunk = clientWorld.getChunkManager().getWorldChunk(chunkX, chunkZ);
+                if (chunk != null) {
+                    submit(clientWorld, chunkPos, chunk);
+                    started++;
+                }
+            }
+        }
+        sweeping = started > 0;
+    }
+
+    /**
+     * Queue a chunk load and count its ore sections in the background.
+     */
+    private void submit(ClientWorld chunkWorld, long chunkPos, WorldChunk chunk) {
+        long scanId = nextScanId++;
+        updates.add(new Load(chunkWorld, chunkPos, scanId));
+
+        List<SectionSnapshot> snapshots = snapshotOreSections(chunk);
+        if (snapshots.isEmpty()) {
+            completed.add(new ScanResult(chunkPos, scanId, new ChunkOreCounts(chunkPos, List.of())));
+            inFlight++;
+            return;
+        }
+        inFlight++;
+        String dimensionName = String.valueOf(dimension);
+        CompletableFuture.supplyAsync(() -> scan(chunkPos, dimensionName, snapshots), POOL)
+                .whenComplete((counts, error) -> completed.add(new ScanResult(chunkPos, scanId, counts)));
+    }
+
+    /**
+     * Copy the block data of every section whose palette contains an ore block.
+     * Runs on the client thread; sections without ore are rejected by the palette check alone.
+     */
+    static List<SectionSnapshot> snapshotOreSections(WorldChunk chunk) {
+        List<SectionSnapshot> snapshots = new ArrayList<>();
+        ChunkSection[] sections = chunk.getSectionArray();
+        for (int index = 0; index < sections.length; index++) {
+            ChunkSection section = sections[index];
+            if (section == null || section.isEmpty()) {
+                continue;
+            }
+            PalettedContainer<BlockState> states = section.getBlockStateContainer();
+            if (states.hasAny(IS_ORE)) {
+                snapshots.add(new SectionSnapshot(chunk.sectionIndexToCoord(index) << 4, states.copy()));
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * Count ore blocks in copied sections, reporting the scan to JFR. Runs on the scan pool.
+     */
+    private static ChunkOreCounts scan(long chunkPos, String dimensionName, List<SectionSnapshot> snapshots) {
+        OreOracleEvents.ChunkScan event = new OreOracleEvents.ChunkScan();
+        event.begin();
+        ChunkOreCounts counts = count(chunkPos, snapshots);
+        if (event.shouldCommit()) {
+            event.chunkX = ChunkPos.getPackedX(chunkPos);
+            event.chunkZ = ChunkPos.getPackedZ(chunkPos);
+            event.dimension = dimensionName;
+            event.sectionCount = snapshots.size();
+            event.commit();
+        }
+        return counts;
+    }
+
+    /**
+     * Count ore blocks per layer in copied sections. Runs on the scan pool.
+     */
+    static ChunkOreCounts count(long chunkPos, List<SectionSnapshot> snapshots) {
+        List<ChunkOreCounts.Section> sections = new ArrayList<>(snapshots.size());
+        for (SectionSnapshot snapshot : snapshots) {
+            ChunkOreCounts.Section section = ChunkOreCounts.Section.empty(snapshot.minY);
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        Ore ore = ORE_BY_BLOCK.get(snapshot.states.get(x, y, z).getBlock());
+                        if (ore != null) {
+                            section.increment(ore, y);
+                        }
+                    }
+                }
+            }
+            sections.add(section);
+        }
+        return new ChunkOreCounts(chunkPos, sections);
+    }
+
+    record SectionSnapshot(int minY, PalettedContainer<BlockState> states) {}
+
+    /**
+     * Counts applied to the histogram for one loaded chunk.
+     * Block changes are kept separately so they can be subtracted along with the scan on unload.
+     */
+    private static final class TrackedChunk {
+        final long scanId;
+        final ChunkOreCounts deltas;
+        @Nullable ChunkOreCounts counts;
+
+        TrackedChunk(long scanId, ChunkOreCounts deltas) {
+            this.scanId = scanId;
+            this.deltas = deltas;
+        }
+    }
+
+    private sealed interface Update permits Load, Unload, BlockChange {
+        World world();
+    }
+
+    private record Load(World world, long chunkPos, long scanId) implements Update {}
+
+    private record Unload(World world, long chunkPos) implements Update {}
+
+    private record BlockChange(World world, long chunkPos, int y, @Nullable Ore removed, @Nullable Ore added)
+            implements Update {}
+
+    /**
+     * A finished scan; counts are null if the scan failed.
+     */
+    private record ScanResult(long chunkPos, long scanId, @Nullable ChunkOreCounts counts) {}
+}
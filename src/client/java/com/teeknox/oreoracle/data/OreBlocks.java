@@ -0,0 +1,92 @@
+package com.teeknox.oreoracle.data;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.Blocks;
+import net.minecraft.item.Item;
+import net.minecraft.item.Items;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Minecraft items and blocks for each {@link Ore}.
+ * Kept out of {@link Ore} so the distribution code loads without the game registries.
+ * Icon items are resolved on first use, so nothing here touches the item registry until the HUD draws.
+ */
+public final class OreBlocks {
+    private static final Ore[] ORES = Ore.values();
+    private static final Item[] ICON_ITEMS = new Item[ORES.length];
+    private static final Block[][] BLOCKS = new Block[ORES.length][];
+
+    static {
+        for (Ore ore : ORES) {
+            BLOCKS[ore.ordinal()] = resolveBlocks(ore);
+        }
+    }
+
+    private OreBlocks() {}
+
+    /**
+     * Get the item to use for icon display (raw material form for better visibility at small sizes).
+     */
+    public static Item getIconItem(Ore ore) {
+        Item item = ICON_ITEMS[ore.ordinal()];
+        if (item == null) {
+            item = resolveIconItem(ore);
+            ICON_ITEMS[ore.ordinal()] = item;
+        }
+        return item;
+    }
+
+    /**
+     * Get the ore blocks (stone and deepslate variants) that count as an ore.
+     */
+    public static Block[] getBlocks(Ore ore) {
+        return BLOCKS[ore.ordinal()];
+    }
+
+    /**
+     * Get the ore a block belongs to, or null if it isn't a vanilla ore block.
+     */
+    @Nullable
+    public static Ore fromBlock(Block block) {
+        for (Ore ore : ORES) {
+            for (Block oreBlock : BLOCKS[ore.ordinal()]) {
+                if (oreBlock == block) {
+                    return ore;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Item resolveIconItem(Ore ore) {
+        return switch (ore) {
+            case COAL -> Items.COAL;
+            case COPPER -> Items.RAW_COPPER;
+            case IRON -> Items.RAW_IRON;
+            case GOLD -> Items.RAW_GOLD;
+            case DIAMOND -> Items.DIAMOND;
+            case REDSTONE -> Items.REDSTONE;
+            case LAPIS -> Items.LAPIS_LAZULI;
+            case EMERALD -> Items.EMERALD;
+            case NETHER_QUARTZ -> Items.QUARTZ;
+            case NETHER_GOLD -> Items.GOLD_NUGGET;
+            case ANCIENT_DEBRIS -> Items.NETHERITE_SCRAP;
+        };
+    }
+
+    private static Block[] resolveBlocks(Ore ore) {
+        return switch (ore) {
+            case COAL -> new Block[]{Blocks.COAL_ORE, Blocks.DEEPSLATE_COAL_ORE};
+            case COPPER -> new Block[]{Blocks.COPPER_ORE, Blocks.DEEPSLATE_COPPER_ORE};
+            case IRON -> new Block[]{Blocks.IRON_ORE, Blocks.DEEPSLATE_IRON_ORE};
+            case GOLD -> new Block[]{Blocks.GOLD_ORE, Blocks.DEEPSLATE_GOLD_ORE};
+            case DIAMOND -> new Block[]{Blocks.DIAMOND_ORE, Blocks.DEEPSLATE_DIAMOND_ORE};
+            case REDSTONE -> new Block[]{Blocks.REDSTONE_ORE, Blocks.DEEPSLATE_REDSTONE_ORE};
+            case LAPIS -> new Block[]{Blocks.LAPIS_ORE, Blocks.DEEPSLATE_LAPIS_ORE};
+            case EMERALD -> new Block[]{Blocks.EMERALD_ORE, Blocks.DEEPSLATE_EMERALD_ORE};
+            case NETHER_QUARTZ -> new Block[]{Blocks.NETHER_QUARTZ_ORE};
+            case NETHER_GOLD -> new Block[]{Blocks.NETHER_GOLD_ORE};
+            case ANCIENT_DEBRIS -> new Block[]{Blocks.ANCIENT_DEBRIS};
+        };
+    }
+}
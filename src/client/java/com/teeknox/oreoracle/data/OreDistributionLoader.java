@@ -0,0 +1,130 @@
+package com.teeknox.oreoracle.data;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.teeknox.oreoracle.OreOracleMod;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.resource.Resource;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+import net.minecraft.world.biome.Biome;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loads ore distribution definitions from assets/[namespace]/ore_distributions/*.json
+ * and compiles them into the active {@link OreTierTable}.
+ *
+ * Files are applied in identifier order, so a resource pack can override a vanilla ore by
+ * redefining its ID without touching the mod jar. Definitions for other ore IDs are skipped,
+ * since the HUD, selector and tracking only know the {@link Ore}s.
+ */
+public class OreDistributionLoader implements SimpleSynchronousResourceReloadListener {
+    private static final Gson GSON = new Gson();
+    private static final Identifier ID = Identifier.of(OreOracleMod.MOD_ID, "ore_distributions");
+    private static final String DIRECTORY = "ore_distributions";
+    private static final String TAG_PREFIX = "#";
+
+    private final Runnable onReload;
+
+    /**
+     * @param onReload Called on the client thread after a new table has been installed
+     */
+    public OreDistributionLoader(Runnable onReload) {
+        this.onReload = onReload;
+    }
+
+    @Override
+    public Identifier getFabricId() {
+        return ID;
+    }
+
+    @Override
+    public void reload(ResourceManager manager) {
+        List<OreDefinition> definitions = new ArrayList<>();
+        Set<Identifier> mountainBiomes = new HashSet<>();
+        Set<Identifier> badlandsBiomes = new HashSet<>();
+        Set<TagKey<Biome>> mountainTags = new HashSet<>();
+        Set<TagKey<Biome>> badlandsTags = new HashSet<>();
+
+        Map<Identifier, Resource> resources = manager.findResources(DIRECTORY, id -> id.getPath().endsWith(".json"));
+        for (Map.Entry<Identifier, Resource> entry : resources.entrySet()) {
+            Identifier fileId = entry.getKey();
+            try (Reader reader = entry.getValue().getReader()) {
+                DistributionFile file = GSON.fromJson(reader, DistributionFile.class);
+                if (file == null) {
+                    continue;
+                }
+
+                if (file.biomeClasses != null) {
+                    addBiomes(fileId, file.biomeClasses.get(BiomeClass.MOUNTAIN), mountainBiomes, mountainTags);
+                    addBiomes(fileId, file.biomeClasses.get(BiomeClass.BADLANDS), badlandsBiomes, badlandsTags);
+                }
+
+                if (file.ores != null) {
+                    for (OreDefinition definition : file.ores) {
+                        String error = definition != null ? definition.validate() : "empty definition";
+                        if (error == null && Ore.fromId(definition.getOre()) == null) {
+                            error = "unknown ore " + definition.getOre();
+                        }
+                        if (error != null) {
+                            OreOracleMod.LOGGER.warn("Skipping ore definition in {}: {}", fileId, error);
+                            continue;
+                        }
+                        definitions.add(definition);
+                    }
+                }
+            } catch (IOException | JsonParseException e) {
+                OreOracleMod.LOGGER.error("Failed to load ore distributions from {}", fileId, e);
+            }
+        }
+
+        BiomeChecker.setBiomeClasses(mountainBiomes, mountainTags, badlandsBiomes, badlandsTags);
+        BiomeClassifier.rebuild();
+        BiomeResolver.getInstance().reset();
+        BiomeSurvey.getInstance().reset();
+        OreTierTable.setResourceDefinitions(definitions);
+        onReload.run();
+
+        OreOracleMod.LOGGER.info("Loaded {} ore distribution definitions from {} files",
+                definitions.size(), resources.size());
+    }
+
+    /**
+     * Parse biome entries; entries starting with '#' are biome tags.
+     */
+    private static void addBiomes(Identifier fileId, List<String> biomes, Set<Identifier> ids, Set<TagKey<Biome>> tags) {
+        if (biomes == null) {
+            return;
+        }
+        for (String biome : biomes) {
+            boolean isTag = biome.startsWith(TAG_PREFIX);
+            Identifier id = Identifier.tryParse(isTag ? biome.substring(TAG_PREFIX.length()) : biome);
+            if (id == null) {
+                OreOracleMod.LOGGER.warn("Skipping invalid biome id '{}' in {}", biome, fileId);
+                continue;
+            }
+            if (isTag) {
+                tags.add(TagKey.of(RegistryKeys.BIOME, id));
+            } else {
+                ids.add(id);
+            }
+        }
+    }
+
+    /**
+     * Structure of a distribution resource file.
+     */
+    private static class DistributionFile {
+        Map<BiomeClass, List<String>> biomeClasses;
+        List<OreDefinition> ores;
+    }
+}
@@ -0,0 +1,208 @@
+package com.teeknox.oreoracle.data;
+
+import com.teeknox.oreoracle.config.OreObservationStore;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Empirical per-Y ore counts, per dimension, built from chunks the client has loaded.
+ * Tiers are derived from the counts persisted in {@link OreObservationStore} (every chunk seen on this
+ * server, across sessions) with the same quantile rule as {@link OreDensity}, so the overlay can show
+ * them next to the theoretical tier.
+ *
+ * Only accessed from the client thread; scanning happens elsewhere (see {@link ChunkOreScanner}).
+ */
+public class OreHistogram {
+    /** Minimum blocks of an ore that must be seen before an empirical tier is reported. */
+    private static final long MIN_SAMPLES = 16;
+
+    private static final int HEIGHT = OreTierTable.MAX_Y - OreTierTable.MIN_Y + 1;
+    private static final Ore[] ORES = Ore.values();
+    private static final int ORE_COUNT = ORES.length;
+
+    private static OreHistogram instance;
+
+    private final Map<Dimension, DimensionCounts> dimensions = new EnumMap<>(Dimension.class);
+    private final Map<Dimension, Quantiles> observed = new EnumMap<>(Dimension.class);
+    private int observedVersion = -1;
+    private int version;
+
+    private OreHistogram() {}
+
+    public static OreHistogram getInstance() {
+        if (instance == null) {
+            instance = new OreHistogram();
+        }
+        return instance;
+    }
+
+    /**
+     * Add a scanned chunk's counts.
+     */
+    public void add(Dimension dimension, ChunkOreCounts chunk) {
+        DimensionCounts counts = getCounts(dimension);
+        chunk.addTo(counts.counts, 1);
+        counts.dirty = true;
+    }
+
+    /**
+     * Remove counts previously added for a chunk.
+     */
+    public void remove(Dimension dimension, ChunkOreCounts chunk) {
+        DimensionCounts counts = getCounts(dimension);
+        chunk.addTo(counts.counts, -1);
+        counts.dirty = true;
+    }
+
+    /**
+     * Change the count of one ore at a Y-level (a single block placed or removed).
+     */
+    public void adjust(Dimension dimension, Ore ore, int y, int delta) {
+        int row = y - OreTierTable.MIN_Y;
+        if (row < 0 || row >= HEIGHT) {
+            return;
+        }
+        DimensionCounts counts = getCounts(dimension);
+        counts.counts[ore.ordinal()][row] += delta;
+        counts.dirty = true;
+    }
+
+    /**
+     * Mark a batch of changes as visible to readers (bumps {@link #getVersion()} once).
+     */
+    public void publish() {
+        version++;
+    }
+
+    /**
+     * Drop all counts (called on disconnect).
+     */
+    public void clear() {
+        dimensions.clear();
+        version++;
+    }
+
+    /**
+     * Get a counter that changes whenever published or persisted counts change.
+     */
+    public int getVersion() {
+        return version + OreObservationStore.getInstance().getVersion();
+    }
+
+    /**
+     * Get the number of blocks of an ore at a Y-level in the loaded chunks.
+     */
+    public long getCount(Dimension dimension, Ore ore, int y) {
+        DimensionCounts counts = dimensions.get(dimension);
+        int row = y - OreTierTable.MIN_Y;
+        if (counts == null || row < 0 || row >= HEIGHT) {
+            return 0;
+        }
+        return counts.counts[ore.ordinal()][row];
+    }
+
+    /**
+     * Get the total number of blocks of an ore in the loaded chunks of a dimension.
+     */
+    public long getTotal(Dimension dimension, Ore ore) {
+        DimensionCounts counts = dimensions.get(dimension);
+        if (counts == null) {
+            return 0;
+        }
+        counts.refresh();
+        return counts.quantiles.totals[ore.ordinal()];
+    }
+
+    /**
+     * Get the empirical tier of an ore at a Y-level, from all chunks observed on this server.
+     *
+     * @return The tier, or null if too few blocks of the ore have been seen
+     */
+    @Nullable
+    public ProbabilityTier getTier(Dimension dimension, Ore ore, int y) {
+        int row = y - OreTierTable.MIN_Y;
+        if (row < 0 || row >= HEIGHT) {
+            return null;
+        }
+        OreObservationStore store = OreObservationStore.getInstance();
+        if (store.getVersion() != observedVersion) {
+            observed.clear();
+            observedVersion = store.getVersion();
+        }
+        Quantiles quantiles = observed.computeIfAbsent(dimension, d -> Quantiles.of(
+                (oreIndex, levelRow) -> store.getCount(d, ORES[oreIndex], OreTierTable.MIN_Y + levelRow)));
+        return quantiles.tierOf(ore.ordinal(), store.getCount(dimension, ore, y));
+    }
+
+    private DimensionCounts getCounts(Dimension dimension) {
+        return dimensions.computeIfAbsent(dimension, d -> new DimensionCounts());
+    }
+
+    /**
+     * Counts for one dimension plus lazily derived totals and tier thresholds.
+     */
+    private static final class DimensionCounts {
+        final long[][] counts = new long[ORE_COUNT][HEIGHT];
+        Quantiles quantiles = new Quantiles();
+        boolean dirty;
+
+        void refresh() {
+            if (dirty) {
+                dirty = false;
+                quantiles = Quantiles.of((ore, row) -> counts[ore][row]);
+            }
+        }
+    }
+
+    /**
+     * Reads the count of an ore ordinal at a row (y - {@link OreTierTable#MIN_Y}).
+     */
+    @FunctionalInterface
+    private interface CountSource {
+        long get(int ore, int row);
+    }
+
+    /**
+     * Per-ore totals and tier thresholds of a set of counts.
+     */
+    private static final class Quantiles {
+        final long[] totals = new long[ORE_COUNT];
+        final float[] greenThresholds = new float[ORE_COUNT];
+        final float[] yellowThresholds = new float[ORE_COUNT];
+
+        static Quantiles of(CountSource source) {
+            Quantiles quantiles = new Quantiles();
+            long[] column = new long[HEIGHT];
+            float[] density = new float[HEIGHT];
+            for (int ore = 0; ore < ORE_COUNT; ore++) {
+                long total = 0;
+                for (int row = 0; row < HEIGHT; row++) {
+                    column[row] = source.get(ore, row);
+                    total += column[row];
+                }
+                quantiles.totals[ore] = total;
+                if (total < MIN_SAMPLES) {
+                    continue;
+                }
+                for (int row = 0; row < HEIGHT; row++) {
+                    density[row] = (float) column[row] / total;
+                }
+                float[] thresholds = OreDensity.tierThresholds(density);
+                quantiles.greenThresholds[ore] = thresholds[1];
+                quantiles.yellowThresholds[ore] = thresholds[2];
+            }
+            return quantiles;
+        }
+
+        @Nullable
+        ProbabilityTier tierOf(int ore, long count) {
+            long total = totals[ore];
+            if (total < MIN_SAMPLES) {
+                return null;
+            }
+            return OreDensity.tierOf((float) count / total, greenThresholds[ore], yellowThresholds[ore]);
+        }
+    }
+}
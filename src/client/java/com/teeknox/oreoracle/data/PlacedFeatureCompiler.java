@@ -0,0 +1,358 @@
+package com.teeknox.oreoracle.data;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.mojang.serialization.JsonOps;
+import com.teeknox.oreoracle.OreOracleMod;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.entry.RegistryEntryList;
+import net.minecraft.server.integrated.IntegratedServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Util;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.gen.feature.OreFeatureConfig;
+import net.minecraft.world.gen.feature.PlacedFeature;
+import net.minecraft.world.gen.placementmodifier.PlacementModifier;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compiles ore definitions from the integrated server's placed-feature registry.
+ * In singleplayer, every placed feature that a dimension's biomes generate with an ore configuration is
+ * turned into {@link OrePlacement}s by reading its height range, count and rarity modifiers,
+ * so datapack-altered ores get accurate tiers without hand-maintained data.
+ * Only targets that are blocks of an {@link Ore} count. Ore features also place dirt, gravel,
+ * stone variants, tuff, magma and the like, as well as modded ores the HUD can't show, which are skipped.
+ *
+ * Placement modifiers are read by encoding them with their codecs, which exposes the same
+ * structure as the worldgen JSON without reaching into private fields. Compilation runs on
+ * the worker executor; until it finishes (and on multiplayer servers) the resource and
+ * built-in distributions stay in use.
+ */
+public final class PlacedFeatureCompiler {
+    // Incremented on every start and clear, so stale results from a previous world are dropped
+    private static final AtomicInteger generation = new AtomicInteger();
+
+    private PlacedFeatureCompiler() {}
+
+    /**
+     * Start compiling the current integrated server's ore features (called on join).
+     * Does nothing when connected to a remote server.
+     *
+     * @param onCompiled Called on the client thread after the compiled definitions have been installed
+     */
+    public static void compile(MinecraftClient client, Runnable onCompiled) {
+        int currentGeneration = generation.incrementAndGet();
+        IntegratedServer server = client.getServer();
+        if (server == null) {
+            return;
+        }
+
+        // Gather per-dimension world data up front; the worker only reads frozen registry contents
+        List<DimensionContext> dimensions = new ArrayList<>();
+        for (Dimension dimension : Dimension.values()) {
+            ServerWorld world = server.getWorld(RegistryKey.of(RegistryKeys.WORLD, WorldDimensions.getId(dimension)));
+            if (world != null) {
+                dimensions.add(new DimensionContext(dimension, world.getBottomY(), world.getTopYInclusive(),
+                        Set.copyOf(world.getChunkManager().getChunkGenerator().getBiomeSource().getBiomes())));
+            }
+        }
+        CompletableFuture.supplyAsync(() -> compileDefinitions(dimensions), Util.getMainWorkerExecutor())
+                .whenComplete((definitions, error) -> client.execute(() -> {
+                    if (currentGeneration != generation.get()) {
+                        return;
+                    }
+                    if (error != null) {
+                        OreOracleMod.LOGGER.error("Failed to compile ore distributions from placed features", error);
+                        return;
+                    }
+                    OreTierTable.setWorldDefinitions(definitions);
+                    onCompiled.run();
+                    OreOracleMod.LOGGER.info("Compiled {} ore distributions from placed features", definitions.size());
+                }));
+    }
+
+    /**
+     * Drop compiled definitions and any compilation in progress (called on disconnect).
+     */
+    public static void clear() {
+        generation.incrementAndGet();
+        OreTierTable.setWorldDefinitions(List.of());
+    }
+
+    private static List<OreDefinition> compileDefinitions(List<DimensionContext> dimensions) {
+        // Biome classes each placed feature generates in, per dimension, considering only biomes of that dimension
+        List<Map<PlacedFeature, Set<BiomeClass>>> featureBiomesByDimension = new ArrayList<>();
+        for (DimensionContext dimension : dimensions) {
+            Map<PlacedFeature, Set<BiomeClass>> featureBiomes = new IdentityHashMap<>();
+            for (RegistryEntry<Biome> biome : dimension.biomes) {
+                BiomeClass biomeClass = BiomeChecker.classify(biome);
+                for (RegistryEntryList<PlacedFeature> step : biome.value().getGenerationSettings().getFeatures()) {
+                    for (RegistryEntry<PlacedFeature> feature : step) {
+                        featureBiomes.computeIfAbsent(feature.value(), f -> EnumSet.noneOf(BiomeClass.class))
+                                .add(biomeClass);
+                    }
+                }
+            }
+            featureBiomesByDimension.add(featureBiomes);
+        }
+
+        Map<String, OreAccumulator> byOre = new LinkedHashMap<>();
+        for (int i = 0; i < dimensions.size(); i++) {
+            for (Map.Entry<PlacedFeature, Set<BiomeClass>> entry : featureBiomesByDimension.get(i).entrySet()) {
+                compileFeature(entry.getKey(), restriction(entry.getValue()), dimensions.get(i), byOre);
+            }
+        }
+
+        List<OreDefinition> definitions = new ArrayList<>();
+        for (Map.Entry<String, OreAccumulator> entry : byOre.entrySet()) {
+            definitions.add(entry.getValue().toDefinition(entry.getKey()));
+        }
+        return definitions;
+    }
+
+    private static void compileFeature(PlacedFeature feature, @Nullable BiomeClass biome, DimensionContext dimension,
+                                       Map<String, OreAccumulator> byOre) {
+        if (!(feature.feature().value().config() instanceof OreFeatureConfig config)) {
+            return;
+        }
+        List<Ore> targetOres = getOres(config);
+        if (targetOres.isEmpty()) {
+            return;
+        }
+        RawPlacement placement = readPlacement(feature.placementModifiers(), config.size, biome, dimension);
+        if (placement == null) {
+            return;
+        }
+
+        // Stone and deepslate targets of one feature count once per ore
+        Set<String> ores = new LinkedHashSet<>();
+        for (Ore ore : targetOres) {
+            if (ore.getDimension() == dimension.dimension) {
+                ores.add(ore.getId());
+            }
+        }
+        for (String ore : ores) {
+            OreAccumulator accumulator = byOre.computeIfAbsent(ore, id -> new OreAccumulator(dimension));
+            if (accumulator.dimension == dimension) {
+                accumulator.placements.add(placement);
+            } else if (accumulator.ignoredDimensions.add(dimension.dimension)) {
+                // Definitions are per dimension; the first dimension that places the ore keeps it
+                OreOracleMod.LOGGER.warn("Ignoring placements of {} in {}: already compiled for {}",
+                        ore, dimension.dimension, accumulator.dimension.dimension);
+            }
+        }
+    }
+
+    /**
+     * Get the ores an ore feature's targets are blocks of, in target order.
+     */
+    private static List<Ore> getOres(OreFeatureConfig config) {
+        List<Ore> ores = new ArrayList<>(config.targets.size());
+        for (OreFeatureConfig.Target target : config.targets) {
+            Ore ore = OreBlocks.fromBlock(target.state.getBlock());
+            if (ore != null && !ores.contains(ore)) {
+                ores.add(ore);
+            }
+        }
+        return ores;
+    }
+
+    /**
+     * Read height range, count and rarity from a feature's placement modifiers.
+     *
+     * @return The placement, or null if the feature has no height range
+     */
+    @Nullable
+    private static RawPlacement readPlacement(List<PlacementModifier> modifiers, int size, @Nullable BiomeClass biome,
+                                              DimensionContext dimension) {
+        double count = 1;
+        RawPlacement height = null;
+
+        for (PlacementModifier modifier : modifiers) {
+            JsonElement encoded = PlacementModifier.CODEC.encodeStart(JsonOps.INSTANCE, modifier).result().orElse(null);
+            if (encoded == null || !encoded.isJsonObject()) {
+                continue;
+            }
+            JsonObject json = encoded.getAsJsonObject();
+            switch (getType(json)) {
+                case "minecraft:count" -> count *= averageOf(json.get("count"));
+                case "minecraft:rarity_filter" -> count /= Math.max(1, json.get("chance").getAsInt());
+                case "minecraft:height_range" -> height = readHeight(json.get("height"), dimension);
+                default -> {}
+            }
+        }
+
+        if (height == null) {
+            return null;
+        }
+        return new RawPlacement(height.shape, height.minY, height.maxY, height.plateau, count, size, biome);
+    }
+
+    /**
+     * Read a height provider into a placement shape and range (count, size and biome left unset).
+     */
+    @Nullable
+    private static RawPlacement readHeight(JsonElement json, DimensionContext dimension) {
+        if (json == null || !json.isJsonObject()) {
+            return null;
+        }
+        JsonObject object = json.getAsJsonObject();
+        if (!object.has("type")) {
+            // Constant height provider encoded as a bare Y offset
+            int y = resolveOffset(object, dimension);
+            return new RawPlacement(OrePlacement.Shape.UNIFORM, y, y, 0, 0, 0, null);
+        }
+
+        String type = getType(object);
+        if (type.equals("minecraft:constant")) {
+            int y = resolveOffset(object.get("value").getAsJsonObject(), dimension);
+            return new RawPlacement(OrePlacement.Shape.UNIFORM, y, y, 0, 0, 0, null);
+        }
+
+        int minY = resolveOffset(object.get("min_inclusive").getAsJsonObject(), dimension);
+        int maxY = Math.max(minY, resolveOffset(object.get("max_inclusive").getAsJsonObject(), dimension));
+        if (type.equals("minecraft:trapezoid")) {
+            int plateau = object.has("plateau") ? object.get("plateau").getAsInt() : 0;
+            return new RawPlacement(OrePlacement.Shape.TRAPEZOID, minY, maxY, plateau, 0, 0, null);
+        }
+        if (!type.equals("minecraft:uniform")) {
+            // Biased providers are approximated as uniform over their range
+            OreOracleMod.LOGGER.debug("Approximating height provider {} as uniform", type);
+        }
+        return new RawPlacement(OrePlacement.Shape.UNIFORM, minY, maxY, 0, 0, 0, null);
+    }
+
+    /**
+     * Resolve a vertical anchor ({"absolute"}, {"above_bottom"} or {"below_top"}) to a Y-level.
+     */
+    private static int resolveOffset(JsonObject offset, DimensionContext dimension) {
+        if (offset.has("absolute")) {
+            return offset.get("absolute").getAsInt();
+        }
+        if (offset.has("above_bottom")) {
+            return dimension.bottomY + offset.get("above_bottom").getAsInt();
+        }
+        if (offset.has("below_top")) {
+            return dimension.topY - offset.get("below_top").getAsInt();
+        }
+        return dimension.bottomY;
+    }
+
+    /**
+     * Get the mean of an encoded int provider.
+     */
+    private static double averageOf(JsonElement json) {
+        if (json == null) {
+            return 1;
+        }
+        if (json.isJsonPrimitive()) {
+            return json.getAsDouble();
+        }
+        if (!json.isJsonObject()) {
+            return 1;
+        }
+        JsonObject object = json.getAsJsonObject();
+        return switch (getType(object)) {
+            case "minecraft:constant" -> object.get("value").getAsDouble();
+            case "minecraft:uniform", "minecraft:biased_to_bottom" ->
+                    (object.get("min_inclusive").getAsDouble() + object.get("max_inclusive").getAsDouble()) / 2;
+            case "minecraft:clamped" -> Math.max(object.get("min_inclusive").getAsDouble(),
+                    Math.min(object.get("max_inclusive").getAsDouble(), averageOf(object.get("source"))));
+            case "minecraft:weighted_list" -> averageOfWeighted(object.get("distribution"));
+            default -> 1;
+        };
+    }
+
+    private static double averageOfWeighted(JsonElement distribution) {
+        if (distribution == null || !distribution.isJsonArray()) {
+            return 1;
+        }
+        JsonArray entries = distribution.getAsJsonArray();
+        double total = 0;
+        double weights = 0;
+        for (JsonElement element : entries) {
+            JsonObject entry = element.getAsJsonObject();
+            double weight = entry.get("weight").getAsDouble();
+            total += averageOf(entry.get("data")) * weight;
+            weights += weight;
+        }
+        return weights > 0 ? total / weights : 1;
+    }
+
+    private static String getType(JsonObject json) {
+        JsonElement type = json.get("type");
+        return type != null ? type.getAsString() : "";
+    }
+
+    /**
+     * Derive the biome restriction of a feature from the biome classes it generates in.
+     */
+    @Nullable
+    private static BiomeClass restriction(Set<BiomeClass> biomeClasses) {
+        if (biomeClasses.size() == 1) {
+            BiomeClass only = biomeClasses.iterator().next();
+            return only != BiomeClass.NORMAL ? only : null;
+        }
+        return null;
+    }
+
+    private record DimensionContext(Dimension dimension, int bottomY, int topY, Set<RegistryEntry<Biome>> biomes) {}
+
+    private record RawPlacement(OrePlacement.Shape shape, int minY, int maxY, int plateau,
+                                double count, double size, @Nullable BiomeClass biome) {}
+
+    /**
+     * Placements collected for one ore.
+     */
+    private static final class OreAccumulator {
+        final DimensionContext dimension;
+        final List<RawPlacement> placements = new ArrayList<>();
+        // Other dimensions that also place this ore, logged once each
+        final Set<Dimension> ignoredDimensions = EnumSet.noneOf(Dimension.class);
+
+        OreAccumulator(DimensionContext dimension) {
+            this.dimension = dimension;
+        }
+
+        OreDefinition toDefinition(String ore) {
+            // An ore whose placements are all limited to one biome class requires that class
+            BiomeClass required = placements.get(0).biome;
+            int minY = Integer.MAX_VALUE;
+            int maxY = Integer.MIN_VALUE;
+            for (RawPlacement placement : placements) {
+                if (placement.biome != required) {
+                    required = null;
+                }
+                minY = Math.min(minY, placement.minY);
+                maxY = Math.max(maxY, placement.maxY);
+            }
+            minY = Math.max(minY, dimension.bottomY);
+            maxY = Math.min(maxY, dimension.topY);
+
+            List<OrePlacement> compiled = new ArrayList<>();
+            for (RawPlacement placement : placements) {
+                compiled.add(new OrePlacement(placement.shape, placement.minY, placement.maxY, placement.plateau,
+                        placement.count, placement.size, required != null ? null : placement.biome));
+            }
+
+            Ore vanillaOre = Ore.fromId(ore);
+            int[] peaks = vanillaOre != null && vanillaOre.hasPeakIndicator() ? vanillaOre.getPeakYLevels() : new int[0];
+            return OreDefinition.of(ore, minY, maxY, peaks, required, compiled);
+        }
+    }
+}
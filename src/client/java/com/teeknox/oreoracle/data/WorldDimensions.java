@@ -0,0 +1,46 @@
+package com.teeknox.oreoracle.data;
+
+import net.minecraft.util.Identifier;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Maps Minecraft worlds to {@link Dimension}s by their registry key.
+ */
+public final class WorldDimensions {
+    private static final Dimension[] DIMENSIONS = Dimension.values();
+    private static final Identifier[] IDS = new Identifier[DIMENSIONS.length];
+
+    static {
+        for (Dimension dimension : DIMENSIONS) {
+            IDS[dimension.ordinal()] = Identifier.of(dimension.getId());
+        }
+    }
+
+    private WorldDimensions() {}
+
+    /**
+     * Get the world ID of a dimension.
+     */
+    public static Identifier getId(Dimension dimension) {
+        return IDS[dimension.ordinal()];
+    }
+
+    /**
+     * Get the dimension from a world's registry key.
+     */
+    @Nullable
+    public static Dimension fromWorld(World world) {
+        if (world == null) return null;
+
+        Identifier worldId = world.getRegistryKey().getValue();
+
+        for (Dimension dim : DIMENSIONS) {
+            if (IDS[dim.ordinal()].equals(worldId)) {
+                return dim;
+            }
+        }
+
+        return null;
+    }
+}
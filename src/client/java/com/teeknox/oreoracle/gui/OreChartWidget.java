@@ -0,0 +1,221 @@
+package com.teeknox.oreoracle.gui;
+
+import com.teeknox.oreoracle.OreOracleMod;
+import com.teeknox.oreoracle.config.ModConfig;
+import com.teeknox.oreoracle.config.ServerDataManager;
+import com.teeknox.oreoracle.data.*;
+import com.teeknox.oreoracle.telemetry.OreOracleEvents;
+import com.teeknox.oreoracle.telemetry.Telemetry;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gl.RenderPipelines;
+import net.minecraft.client.gui.DrawContext;
+import net.minecraft.client.texture.NativeImage;
+import net.minecraft.client.texture.NativeImageBackedTexture;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.Identifier;
+
+/**
+ * HUD widget showing one vertical strip per tracked ore over the dimension's full height,
+ * colored by tier, with a marker at the player's Y-level.
+ *
+ * The strips are baked into a texture from the tier table whenever the tracked ores, biome class,
+ * dimension or table change, so each frame draws them as a single textured quad instead of one
+ * fill per pixel row. Drawn on the opposite side of the screen from the ore overlay.
+ * Only accessed from the client thread.
+ */
+public class OreChartWidget {
+    private static final Identifier TEXTURE_ID = Identifier.of(OreOracleMod.MOD_ID, "chart");
+
+    // Style constants from STYLE_GUIDE.md
+    private static final int BG_OVERLAY = 0x90000000;
+    private static final int MARKER_COLOR = 0xFFFFFFFF;
+    private static final int NONE_COLOR = 0x40FFFFFF; // Faint strip where the ore doesn't spawn
+
+    // Geometry: each ore gets an icon-wide column holding a narrower strip
+    private static final int PADDING = OverlayLayout.PADDING;
+    private static final int ICON_SIZE = OverlayLayout.ICON_SIZE;
+    private static final int COLUMN_WIDTH = ICON_SIZE;
+    private static final int STRIP_WIDTH = 10;
+    private static final int CHART_HEIGHT = 96;
+
+    private static OreChartWidget instance;
+
+    // Inputs the texture was baked from
+    private NativeImageBackedTexture texture;
+    private long bakedMask;
+    private BiomeClass bakedBiomeClass;
+    private Dimension bakedDimension;
+    private OreTierTable bakedTable;
+
+    // Geometry for the current tick
+    private boolean visible;
+    private final Ore[] columns = new Ore[Ore.values().length];
+    private final ItemStack[] iconStacks = new ItemStack[Ore.values().length];
+    private int columnCount;
+    private int x;
+    private int y;
+    private int width;
+    private int height;
+    private int markerY;
+
+    private OreChartWidget() {}
+
+    public static OreChartWidget getInstance() {
+        if (instance == null) {
+            instance = new OreChartWidget();
+        }
+        return instance;
+    }
+
+    /**
+     * Rebake the texture if its inputs changed and place the widget and marker.
+     * Called at the end of every client tick, after the overlay has resolved the biome.
+     */
+    public void tick(MinecraftClient client) {
+        long start = Telemetry.start(Telemetry.Timer.CHART);
+        update(client);
+        Telemetry.stop(Telemetry.Timer.CHART, start);
+    }
+
+    private void update(MinecraftClient client) {
+        ModConfig.Snapshot config = ModConfig.getInstance().getSnapshot();
+        visible = false;
+        if (!config.enabled() || !config.showChart() || client.player == null || client.world == null) {
+            return;
+        }
+
+        BiomeResolver resolver = BiomeResolver.getInstance();
+        Dimension dimension = resolver.getDimension();
+        if (dimension == null) {
+            return;
+        }
+        BiomeClass biomeClass = resolver.getBiomeClass();
+        long oreMask = ServerDataManager.getInstance().getTrackedMask() & Ore.getDimensionMask(dimension);
+        if (oreMask == 0) {
+            return;
+        }
+
+        OreTierTable table = OreTierTable.get();
+        if (texture == null || oreMask != bakedMask || biomeClass != bakedBiomeClass
+                || dimension != bakedDimension || table != bakedTable) {
+            bake(client, table, oreMask, biomeClass, dimension);
+        }
+
+        int screenWidth = client.getWindow().getScaledWidth();
+        int screenHeight = client.getWindow().getScaledHeight();
+        width = PADDING + columnCount * COLUMN_WIDTH + PADDING;
+        height = PADDING + CHART_HEIGHT + 2 + ICON_SIZE + PADDING;
+        x = config.hudPosition() == ModConfig.HudPosition.LEFT
+                ? screenWidth - width - Math.abs(config.overlayX())
+                : Math.abs(config.overlayX());
+        y = OverlayLayout.calculateY(config, screenHeight, height);
+        markerY = y + PADDING + rowOf(client.player.getBlockY(), dimension);
+        visible = true;
+    }
+
+    /**
+     * Draw the widget. Called from HudElementRegistry.
+     */
+    public void render(DrawContext context) {
+        if (!visible || MinecraftClient.getInstance().currentScreen != null) {
+            return;
+        }
+
+        int chartX = x + PADDING;
+        int chartY = y + PADDING;
+        int chartWidth = columnCount * COLUMN_WIDTH;
+        context.fill(x, y, x + width, y + height, BG_OVERLAY);
+        context.drawTexture(RenderPipelines.GUI_TEXTURED, TEXTURE_ID, chartX, chartY, 0, 0,
+                chartWidth, CHART_HEIGHT, chartWidth, CHART_HEIGHT);
+        context.fill(chartX - 1, markerY, chartX + chartWidth + 1, markerY + 1, MARKER_COLOR);
+
+        int iconY = chartY + CHART_HEIGHT + 2;
+        for (int i = 0; i < columnCount; i++) {
+            context.drawItem(getIconStack(columns[i]), chartX + i * COLUMN_WIDTH, iconY);
+        }
+    }
+
+    /**
+     * Paint one strip per ore into the texture, recreating it only if the number of ores changed.
+     */
+    private void bake(MinecraftClient client, OreTierTable table, long oreMask, BiomeClass biomeClass,
+                      Dimension dimension) {
+        OreOracleEvents.ChartBake event = new OreOracleEvents.ChartBake();
+        event.begin();
+        columnCount = 0;
+        for (long bits = oreMask; bits != 0; bits &= bits - 1) {
+            columns[columnCount++] = Ore.fromOrdinal(Long.numberOfTrailingZeros(bits));
+        }
+
+        int textureWidth = columnCount * COLUMN_WIDTH;
+        if (texture == null || texture.getImage().getWidth() != textureWidth) {
+            // Registering under the same ID closes the previous texture
+            texture = new NativeImageBackedTexture(() -> TEXTURE_ID.toString(),
+                    new NativeImage(textureWidth, CHART_HEIGHT, false));
+            client.getTextureManager().registerTexture(TEXTURE_ID, texture);
+        }
+
+        NativeImage image = texture.getImage();
+        int stripOffset = (COLUMN_WIDTH - STRIP_WIDTH) / 2;
+        for (int column = 0; column < columnCount; column++) {
+            Ore ore = columns[column];
+            int left = column * COLUMN_WIDTH;
+            for (int row = 0; row < CHART_HEIGHT; row++) {
+                int color = stripColor(table, ore, row, biomeClass, dimension);
+                for (int px = 0; px < COLUMN_WIDTH; px++) {
+                    boolean inStrip = px >= stripOffset && px < stripOffset + STRIP_WIDTH;
+                    image.setColorArgb(left + px, row, inStrip ? color : 0);
+                }
+            }
+        }
+        texture.upload();
+
+        bakedMask = oreMask;
+        bakedBiomeClass = biomeClass;
+        bakedDimension = dimension;
+        bakedTable = table;
+        if (event.shouldCommit()) {
+            event.dimension = dimension.name();
+            event.biomeClass = biomeClass.name();
+            event.oreCount = columnCount;
+            event.commit();
+        }
+    }
+
+    /**
+     * Get the color of one pixel row of a strip: the best tier among the Y-levels the row covers.
+     */
+    private static int stripColor(OreTierTable table, Ore ore, int row, BiomeClass biomeClass, Dimension dimension) {
+        int height = dimension.getMaxY() - dimension.getMinY() + 1;
+        // Row 0 is the top of the dimension
+        int lowY = dimension.getMinY() + (CHART_HEIGHT - 1 - row) * height / CHART_HEIGHT;
+        int highY = Math.max(lowY, dimension.getMinY() + (CHART_HEIGHT - row) * height / CHART_HEIGHT - 1);
+
+        ProbabilityTier best = ProbabilityTier.NONE;
+        for (int y = lowY; y <= highY; y++) {
+            ProbabilityTier tier = table.getTier(ore, y, biomeClass);
+            if (tier.ordinal() < best.ordinal()) {
+                best = tier;
+            }
+        }
+        return best == ProbabilityTier.NONE ? NONE_COLOR : best.getColor();
+    }
+
+    /**
+     * Get the pixel row of the chart that covers a Y-level, clamped to the chart.
+     */
+    private static int rowOf(int y, Dimension dimension) {
+        int height = dimension.getMaxY() - dimension.getMinY() + 1;
+        int row = (dimension.getMaxY() - y) * CHART_HEIGHT / height;
+        return Math.max(0, Math.min(CHART_HEIGHT - 1, row));
+    }
+
+    private ItemStack getIconStack(Ore ore) {
+        ItemStack stack = iconStacks[ore.ordinal()];
+        if (stack == null) {
+            stack = new ItemStack(OreBlocks.getIconItem(ore));
+            iconStacks[ore.ordinal()] = stack;
+        }
+        return stack;
+    }
+}
@@ -3,13 +3,15 @@ package com.teeknox.oreoracle.gui;
 import com.teeknox.oreoracle.config.ModConfig;
 import com.teeknox.oreoracle.config.ServerDataManager;
 import com.teeknox.oreoracle.data.*;
+import com.teeknox.oreoracle.telemetry.OreOracleEvents;
+import com.teeknox.oreoracle.telemetry.Telemetry;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -20,15 +22,29 @@ public class OreOracleOverlay {
     // Style constants from STYLE_GUIDE.md
     private static final int BG_OVERLAY = 0x90000000;
     private static final int TEXT_PRIMARY = 0xFFFFFFFF;
+    private static final int TEXT_SECONDARY = 0xFF888888;
     private static final int TEXT_MUTED = 0xFF666666;
-    private static final int PADDING = 4;
-    private static final int LINE_HEIGHT_TEXT = 10;
-    private static final int LINE_HEIGHT_ICON = 18; // Taller for 16x16 item icons
-    private static final int ICON_SIZE = 16;
-    private static final int STANDARD_WIDTH = 90; // Narrower width (was 120)
 
     // Peak indicator
     private static final String PEAK_INDICATOR = " \u2605"; // Star character
+    private static final String PEAK_STAR = PEAK_INDICATOR.trim();
+
+    // Display strings per ore, with and without the peak indicator (built once, reused every recompute)
+    private static final String[] DISPLAY_NAMES = new String[Ore.values().length];
+    private static final String[] PEAK_DISPLAY_NAMES = new String[Ore.values().length];
+
+    // "% of max density" labels, indexed by percentage
+    private static final String[] PERCENT_LABELS = new String[101];
+
+    static {
+        for (Ore ore : Ore.values()) {
+            DISPLAY_NAMES[ore.ordinal()] = ore.getDisplayName();
+            PEAK_DISPLAY_NAMES[ore.ordinal()] = ore.getDisplayName() + PEAK_INDICATOR;
+        }
+        for (int percent = 0; percent <= 100; percent++) {
+            PERCENT_LABELS[percent] = percent + "%";
+        }
+    }
 
     private static OreOracleOverlay instance;
 
@@ -36,7 +52,33 @@ public class OreOracleOverlay {
     private int lastY = Integer.MIN_VALUE;
     private Identifier lastBiome = null;
     private Dimension lastDimension = null;
-    private List<OreEntry> cachedEntries = new ArrayList<>();
+    private int lastHistogramVersion = -1;
+    private BiomeMix lastMix = BiomeMix.NONE;
+
+    // Entries are filled into alternating buffers so the published snapshot's buffer is never refilled
+    private final OverlayEntries[] entryBuffers = {new OverlayEntries(), new OverlayEntries()};
+    private int entryBufferIndex;
+    private OverlayEntries cachedEntries = entryBuffers[0];
+
+    // Best Y-level for the tracked ores; depends on biome class and dimension but not on the player's Y
+    private BestYFinder.Band bestBand;
+    private BiomeClass bestBandBiomeClass;
+    private Dimension bestBandDimension;
+    private boolean bestBandStale = true;
+
+    // Cached render strings and icons so steady-state frames allocate nothing
+    private final ItemStack[] iconStacks = new ItemStack[Ore.values().length];
+    private String headerText = "";
+
+    // Geometry of the latest snapshot; replaced (never modified after publication) when something changes
+    private OverlayLayout layout = new OverlayLayout();
+
+    // Latest state computed on the client tick, read by the render path
+    private volatile OverlaySnapshot published;
+
+    // Re-recorded every frame when retained rendering is off (render path only)
+    private final OverlayDrawList immediateDrawList = new OverlayDrawList();
+    private final OverlayDrawList.ContextTarget contextTarget = new OverlayDrawList.ContextTarget();
 
     private OreOracleOverlay() {}
 
@@ -48,37 +90,57 @@ public class OreOracleOverlay {
     }
 
     /**
-     * Render the overlay. Called from HudElementRegistry.
+     * Detect state changes and publish a new snapshot if anything visible changed.
+     * Called at the end of every client tick, so the work runs at tick rate rather than frame rate.
      */
-    public void render(DrawContext context, float tickDelta) {
-        MinecraftClient client = MinecraftClient.getInstance();
-        ModConfig config = ModConfig.getInstance();
+    public void tick(MinecraftClient client) {
+        ModConfig.Snapshot config = ModConfig.getInstance().getSnapshot();
 
-        // Don't render if disabled or no player
-        if (!config.isEnabled() || client.player == null || client.world == null) {
+        // Nothing to show if disabled or no player
+        if (!config.enabled() || client.player == null || client.world == null) {
+            unpublish();
             return;
         }
 
-        // Don't render when a screen is open
-        if (client.currentScreen != null) {
+        // Get current state
+        int currentY = client.player.getBlockY();
+        BiomeResolver resolver = BiomeResolver.getInstance();
+        resolver.update(client);
+        Identifier currentBiome = resolver.getBiome();
+        BiomeClass currentBiomeClass = resolver.getBiomeClass();
+        Dimension currentDimension = resolver.getDimension();
+        BiomeMix currentMix = BiomeSurvey.getInstance().getMix();
+
+        // No vanilla ores in dimensions the mod doesn't know (e.g. modded ones)
+        if (currentDimension == null) {
+            unpublish();
             return;
         }
 
-        // Get current state
-        int currentY = (int) client.player.getY();
-        Identifier currentBiome = BiomeChecker.getCurrentBiome(client);
-        Dimension currentDimension = Dimension.fromWorld(client.world);
+        // Empirical counts, when enabled, also refresh the entries as new chunks are scanned
+        OreHistogram histogram = config.empiricalMode() ? OreHistogram.getInstance() : null;
+        int histogramVersion = histogram != null ? histogram.getVersion() : -1;
 
         // Recalculate entries if state changed
-        if (currentY != lastY || !biomeEquals(currentBiome, lastBiome) || currentDimension != lastDimension) {
+        if (currentY != lastY || !biomeEquals(currentBiome, lastBiome) || currentDimension != lastDimension
+                || histogramVersion != lastHistogramVersion || !currentMix.equals(lastMix)) {
             lastY = currentY;
             lastBiome = currentBiome;
             lastDimension = currentDimension;
-            updateCachedEntries(currentY, currentBiome, currentDimension);
+            lastHistogramVersion = histogramVersion;
+            lastMix = currentMix;
+            if (bestBandStale || currentBiomeClass != bestBandBiomeClass || currentDimension != bestBandDimension) {
+                updateBestBand(currentY, currentBiomeClass, currentDimension);
+            }
+            headerText = bestBand != null ? "Y: " + currentY + "  Best: " + bestBand.minY() : "Y: " + currentY;
+            updateCachedEntries(currentY, currentBiomeClass, currentMix, currentDimension, histogram);
+        } else {
+            Telemetry.count(Telemetry.Counter.CACHE_HITS);
         }
 
-        // Don't render if no entries to show
+        // Nothing to show if there are no entries
         if (cachedEntries.isEmpty()) {
+            unpublish();
             return;
         }
 
@@ -86,167 +148,234 @@ public class OreOracleOverlay {
         int screenWidth = client.getWindow().getScaledWidth();
         int screenHeight = client.getWindow().getScaledHeight();
 
-        // Calculate position
-        int overlayWidth = calculateWidth(textRenderer);
-        int overlayHeight = calculateHeight(config);
-
-        int x = calculateX(config, screenWidth, overlayWidth);
-        int y = calculateY(config, screenHeight, overlayHeight);
+        // Rebuild geometry and draw commands only when entries, settings, window size or fonts changed
+        if (layout.needsUpdate(config, screenWidth, screenHeight)) {
+            OverlayLayout next = new OverlayLayout();
+            next.update(cachedEntries, config, textRenderer::getWidth, textRenderer.fontHeight, headerText, PEAK_STAR,
+                    screenWidth, screenHeight);
+            layout = next;
+
+            OverlaySnapshot snapshot = new OverlaySnapshot(config, lastY, lastDimension, cachedEntries, headerText,
+                    next, new OverlayDrawList());
+            record(snapshot.drawList(), snapshot);
+            published = snapshot;
+            Telemetry.count(Telemetry.Counter.SNAPSHOTS);
+        }
+    }
 
-        // Draw background (no border per STYLE_GUIDE.md)
-        context.fill(x, y, x + overlayWidth, y + overlayHeight, BG_OVERLAY);
+    /**
+     * Render the latest published snapshot. Called from HudElementRegistry.
+     */
+    public void render(DrawContext context, float tickDelta) {
+        OverlaySnapshot snapshot = published;
+        if (snapshot == null) {
+            return;
+        }
 
-        // Draw content
-        int contentY = y + PADDING;
+        // Don't render when a screen is open
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client.currentScreen != null) {
+            return;
+        }
 
-        // Determine line height based on display mode
-        int lineHeight = config.getDisplayMode() == ModConfig.DisplayMode.ICON ? LINE_HEIGHT_ICON : LINE_HEIGHT_TEXT;
+        contextTarget.begin(context, client.textRenderer);
+        renderSnapshot(snapshot, contextTarget);
+        contextTarget.end();
+    }
 
-        // Optional header
-        if (config.isShowHudHeader()) {
-            String header = "Y: " + lastY;
-            context.drawCenteredTextWithShadow(textRenderer, header, x + overlayWidth / 2, contentY, TEXT_PRIMARY);
-            contentY += LINE_HEIGHT_TEXT + PADDING;
+    /**
+     * Draw a snapshot into a target. This is the whole per-frame path once a snapshot is published,
+     * kept separate from the game's draw context so tests can check that it allocates nothing.
+     */
+    void renderSnapshot(OverlaySnapshot snapshot, OverlayDrawList.Target target) {
+        long start = Telemetry.start(Telemetry.Timer.RENDER);
+        // Only create the JFR event while a recording has it enabled, so normal frames allocate nothing
+        OreOracleEvents.Render event = OreOracleEvents.isRenderEnabled() ? new OreOracleEvents.Render() : null;
+        if (event != null) {
+            event.begin();
         }
 
-        // Draw ore entries
-        int maxVisible = config.getMaxVisibleOres();
-        int entriesToShow = Math.min(cachedEntries.size(), maxVisible);
-
-        for (int i = 0; i < entriesToShow; i++) {
-            OreEntry entry = cachedEntries.get(i);
-            renderOreEntry(context, textRenderer, entry, x + PADDING, contentY, overlayWidth - PADDING * 2, config);
-            contentY += lineHeight;
+        // In retained mode the draw commands were recorded once with the snapshot
+        OverlayDrawList drawList = snapshot.drawList();
+        if (!snapshot.config().retainedHud()) {
+            drawList = immediateDrawList;
+            record(drawList, snapshot);
         }
+        drawList.replay(target);
 
-        // Overflow indicator
-        int remaining = cachedEntries.size() - entriesToShow;
-        if (remaining > 0) {
-            String overflow = "+" + remaining + " more";
-            context.drawCenteredTextWithShadow(textRenderer, overflow, x + overlayWidth / 2, contentY, TEXT_MUTED);
+        if (event != null && event.shouldCommit()) {
+            event.y = snapshot.y();
+            event.dimension = String.valueOf(snapshot.dimension());
+            event.entryCount = snapshot.entries().size();
+            event.commit();
         }
+        Telemetry.stop(Telemetry.Timer.RENDER, start);
     }
 
-    private void renderOreEntry(DrawContext context, TextRenderer textRenderer, OreEntry entry,
-                                 int x, int y, int availableWidth, ModConfig config) {
-        if (config.getDisplayMode() == ModConfig.DisplayMode.ICON) {
-            // Icon mode: colored dot + item icon + peak star
-            int indicatorSize = 6;
-            int indicatorY = y + (LINE_HEIGHT_ICON - indicatorSize) / 2;
-            context.fill(x, indicatorY, x + indicatorSize, indicatorY + indicatorSize, entry.tier.getColor());
-
-            // Draw item icon
-            int iconX = x + indicatorSize + 2;
-            int iconY = y + (LINE_HEIGHT_ICON - ICON_SIZE) / 2;
-            ItemStack stack = new ItemStack(entry.ore.getIconItem());
-            context.drawItem(stack, iconX, iconY);
-
-            // Draw peak indicator star if at peak
-            if (entry.isAtPeak) {
-                int starX = iconX + ICON_SIZE + 1;
-                int starY = y + (LINE_HEIGHT_ICON - textRenderer.fontHeight) / 2;
-                context.drawText(textRenderer, PEAK_INDICATOR.trim(), starX, starY, TEXT_PRIMARY, true);
-            }
-        } else {
-            // Text mode: colored dot + ore name + peak star
-            String displayText = entry.ore.getDisplayName();
-            if (entry.isAtPeak) {
-                displayText += PEAK_INDICATOR;
-            }
-
-            int indicatorSize = 6;
-            int indicatorY = y + (LINE_HEIGHT_TEXT - indicatorSize) / 2;
-            context.fill(x, indicatorY, x + indicatorSize, indicatorY + indicatorSize, entry.tier.getColor());
-
-            int textX = x + indicatorSize + 4;
-            context.drawText(textRenderer, displayText, textX, y, TEXT_PRIMARY, true);
-        }
+    /**
+     * Hide the overlay and make sure a fresh snapshot is built once there is something to show again.
+     */
+    private void unpublish() {
+        published = null;
+        layout.invalidate();
     }
 
-    private void updateCachedEntries(int y, Identifier biome, Dimension dimension) {
-        cachedEntries.clear();
-        ServerDataManager serverData = ServerDataManager.getInstance();
+    /**
+     * Record the draw commands for a snapshot. Every position, centered text included, comes from the layout.
+     */
+    void record(OverlayDrawList drawList, OverlaySnapshot snapshot) {
+        OverlayLayout layout = snapshot.layout();
+        drawList.begin();
 
-        for (Ore ore : Ore.values()) {
-            // Skip ores from other dimensions
-            if (ore.getDimension() != dimension) {
-                continue;
-            }
+        // Background (no border per STYLE_GUIDE.md)
+        drawList.fill(layout.x, layout.y, layout.x + layout.width, layout.y + layout.height, BG_OVERLAY);
 
-            ProbabilityTier tier = OreDistribution.getTier(ore, y, biome);
+        // Optional header
+        if (layout.showHeader) {
+            drawList.text(snapshot.headerText(), layout.headerX, layout.headerY, TEXT_PRIMARY);
+        }
 
-            // Check if this ore should be displayed
-            if (serverData.shouldDisplayOre(ore, tier)) {
-                boolean atPeak = tier != ProbabilityTier.NONE && OreDistribution.isAtPeak(ore, y);
-                cachedEntries.add(new OreEntry(ore, tier, atPeak));
-            }
+        // Ore entries
+        OverlayEntries entries = snapshot.entries();
+        for (int i = 0; i < layout.visibleCount; i++) {
+            recordOreEntry(drawList, layout, entries, i);
+        }
+
+        // Overflow indicator
+        if (layout.overflowCount > 0) {
+            drawList.text(layout.overflowText, layout.overflowX, layout.overflowY, TEXT_MUTED);
         }
 
-        // Sort by tier (GREEN first, then YELLOW, RED, NONE)
-        cachedEntries.sort((a, b) -> a.tier.ordinal() - b.tier.ordinal());
     }
 
-    private int calculateWidth(TextRenderer textRenderer) {
-        ModConfig config = ModConfig.getInstance();
+    private void recordOreEntry(OverlayDrawList drawList, OverlayLayout layout, OverlayEntries entries, int row) {
+        // Colored tier dot
+        int indicatorY = layout.indicatorY[row];
+        drawList.fill(layout.indicatorX, indicatorY, layout.indicatorX + OverlayLayout.INDICATOR_SIZE,
+                indicatorY + OverlayLayout.INDICATOR_SIZE, entries.tiers[row].getColor());
+
+        // Second dot for the tier observed in loaded chunks
+        ProbabilityTier empiricalTier = entries.empiricalTiers[row];
+        if (empiricalTier != null) {
+            drawList.fill(layout.empiricalX, indicatorY, layout.empiricalX + OverlayLayout.INDICATOR_SIZE,
+                    indicatorY + OverlayLayout.INDICATOR_SIZE, empiricalTier.getColor());
+        }
 
-        if (config.getDisplayMode() == ModConfig.DisplayMode.ICON) {
-            // Icon mode: padding + indicator + gap + icon + gap + star + padding
-            // Fixed width since icons are uniform size
-            int indicatorWidth = 6 + 2; // indicator size + gap
-            int starWidth = textRenderer.getWidth(PEAK_INDICATOR.trim()) + 1;
-            return PADDING + indicatorWidth + ICON_SIZE + starWidth + PADDING;
-        } else {
-            // Text mode: find the widest entry
-            int maxTextWidth = 0;
-            for (OreEntry entry : cachedEntries) {
-                String text = entry.ore.getDisplayName();
-                if (entry.isAtPeak) {
-                    text += PEAK_INDICATOR;
-                }
-                maxTextWidth = Math.max(maxTextWidth, textRenderer.getWidth(text));
+        if (layout.iconMode) {
+            // Icon mode: item icon + peak star
+            drawList.item(getIconStack(entries.ores[row]), layout.iconX, layout.iconY[row]);
+            if (entries.atPeak[row]) {
+                drawList.text(PEAK_STAR, layout.starX, layout.textY[row], TEXT_PRIMARY);
             }
-            // Width = padding + indicator + gap + text + padding
-            int indicatorWidth = 6 + 4; // indicator size + gap
-            return Math.max(STANDARD_WIDTH, PADDING + indicatorWidth + maxTextWidth + PADDING);
+        } else {
+            // Text mode: ore name + peak star
+            drawList.text(entries.displayTexts[row], layout.textX, layout.textY[row], TEXT_PRIMARY);
         }
-    }
 
-    private int calculateHeight(ModConfig config) {
-        int lines = Math.min(cachedEntries.size(), config.getMaxVisibleOres());
+        // Right-aligned density relative to the ore's densest level
+        if (entries.hasPercent(row)) {
+            drawList.text(percentLabel(entries.percents[row]), layout.percentX - layout.percentWidths[row],
+                    layout.textY[row], TEXT_SECONDARY);
+        }
+    }
 
-        // Account for overflow indicator if needed
-        if (cachedEntries.size() > config.getMaxVisibleOres()) {
-            lines++;
+    private void updateCachedEntries(int y, BiomeClass biomeClass, BiomeMix mix, Dimension dimension,
+                                     OreHistogram histogram) {
+        // Fill the buffer the published snapshot isn't using
+        long start = Telemetry.start(Telemetry.Timer.RECOMPUTE);
+        OreOracleEvents.Recompute event = OreOracleEvents.isRecomputeEnabled()
+                ? new OreOracleEvents.Recompute()
+                : null;
+        if (event != null) {
+            event.begin();
+        }
+        ServerDataManager serverData = ServerDataManager.getInstance();
+        OreTierTable table = OreTierTable.get();
+        long displayMask = OreFilter.displayMask(serverData.getVisibleTiers(), serverData.getTrackedMask(),
+                table, y, biomeClass, mix);
+        entryBufferIndex ^= 1;
+        OverlayEntries entries = entryBuffers[entryBufferIndex];
+        collectEntries(entries, table, histogram, y, biomeClass, mix, dimension, displayMask);
+        cachedEntries = entries;
+        layout.invalidate();
+        if (event != null && event.shouldCommit()) {
+            event.y = y;
+            event.dimension = String.valueOf(dimension);
+            event.biomeClass = biomeClass.name();
+            event.entryCount = entries.size();
+            event.commit();
         }
+        Telemetry.stop(Telemetry.Timer.RECOMPUTE, start);
+    }
 
-        int lineHeight = config.getDisplayMode() == ModConfig.DisplayMode.ICON ? LINE_HEIGHT_ICON : LINE_HEIGHT_TEXT;
-        int height = PADDING + (lines * lineHeight) + PADDING;
+    private void updateBestBand(int y, BiomeClass biomeClass, Dimension dimension) {
+        List<Ore> tracked = ServerDataManager.getInstance().getTrackedOreList();
+        bestBand = tracked.isEmpty() ? null : BestYFinder.find(OreTierTable.get(), tracked, biomeClass, dimension, 1, y);
+        bestBandBiomeClass = biomeClass;
+        bestBandDimension = dimension;
+        bestBandStale = false;
+    }
 
-        // Add header height if shown
-        if (config.isShowHudHeader()) {
-            height += LINE_HEIGHT_TEXT + PADDING;
+    /**
+     * Refill the entries from a precomputed bitmask of the ores to display.
+     * Kept free of client singletons so it can be benchmarked in isolation.
+     *
+     * @param histogram   Empirical counts to show alongside the theoretical tier, or null
+     * @param mix         Biome shares around the player to blend into biome-dependent tiers
+     * @param dimension   The player's dimension, or null for one without vanilla ores
+     * @param displayMask Ores to display, as a bitmask of {@link Ore} ordinals (see {@link OreFilter#displayMask})
+     */
+    static void collectEntries(OverlayEntries entries, OreTierTable tierTable, @Nullable OreHistogram histogram,
+                               int y, BiomeClass biomeClass, BiomeMix mix, @Nullable Dimension dimension,
+                               long displayMask) {
+        entries.clear();
+
+        // Only ores of this dimension that pass the filter
+        for (long bits = displayMask & Ore.getDimensionMask(dimension); bits != 0; bits &= bits - 1) {
+            Ore ore = Ore.fromOrdinal(Long.numberOfTrailingZeros(bits));
+            entries.add(ore, mix.getTier(tierTable, ore, y, biomeClass));
         }
 
-        return height;
+        placeEntries(entries, tierTable, histogram, y, biomeClass, mix, dimension);
     }
 
-    private int calculateX(ModConfig config, int screenWidth, int overlayWidth) {
-        int x = config.getOverlayX();
-        if (config.getHudPosition() == ModConfig.HudPosition.RIGHT) {
-            // Right side: negative offset means from right edge
-            return screenWidth - overlayWidth - Math.abs(x);
+    /**
+     * Store the details of every collected ore, grouped by tier (GREEN first, then YELLOW, RED, NONE).
+     */
+    private static void placeEntries(OverlayEntries entries, OreTierTable tierTable, @Nullable OreHistogram histogram,
+                                     int y, BiomeClass biomeClass, BiomeMix mix, Dimension dimension) {
+        int count = entries.place();
+        for (int i = 0; i < count; i++) {
+            Ore ore = entries.pendingOre(i);
+            ProbabilityTier tier = entries.pendingTier(i);
+            boolean atPeak = tier != ProbabilityTier.NONE && tierTable.isAtPeak(ore, y);
+            String displayText = atPeak ? PEAK_DISPLAY_NAMES[ore.ordinal()] : DISPLAY_NAMES[ore.ordinal()];
+            OreDensity density = tierTable.getDensity(ore);
+            int percent = density != null
+                    ? (int) Math.ceil(mix.getFractionOfMax(density, y, biomeClass) * 100)
+                    : OverlayEntries.NO_PERCENT;
+            ProbabilityTier empiricalTier = histogram != null ? histogram.getTier(dimension, ore, y) : null;
+            entries.set(ore, tier, atPeak, displayText, percent, empiricalTier);
         }
-        // Left side: positive x is from left edge, negative means from left edge counting backwards
-        return x < 0 ? screenWidth + x - overlayWidth : x;
     }
 
-    private int calculateY(ModConfig config, int screenHeight, int overlayHeight) {
-        int offset = config.getOverlayY();
-        return switch (config.getVerticalPosition()) {
-            case TOP -> offset;
-            case CENTER -> (screenHeight - overlayHeight) / 2 + offset;
-            case BOTTOM -> screenHeight - overlayHeight - Math.abs(offset);
-        };
+    /**
+     * Get the cached label for a density percentage.
+     */
+    static String percentLabel(int percent) {
+        return PERCENT_LABELS[Math.max(0, Math.min(100, percent))];
+    }
+
+    /**
+     * Get the cached icon stack for an ore, creating it on first use.
+     */
+    private ItemStack getIconStack(Ore ore) {
+        ItemStack stack = iconStacks[ore.ordinal()];
+        if (stack == null) {
+            stack = new ItemStack(OreBlocks.getIconItem(ore));
+            iconStacks[ore.ordinal()] = stack;
+        }
+        return stack;
     }
 
     private boolean biomeEquals(Identifier a, Identifier b) {
@@ -262,10 +391,14 @@ public class OreOracleOverlay {
         lastY = Integer.MIN_VALUE;
         lastBiome = null;
         lastDimension = null;
+        bestBandStale = true;
+        layout.invalidate();
     }
 
     /**
-     * Represents an ore entry to display in the HUD.
+     * Force a layout rebuild (called when fonts or language are reloaded).
      */
-    private record OreEntry(Ore ore, ProbabilityTier tier, boolean isAtPeak) {}
+    public void invalidateLayout() {
+        layout.invalidate();
+    }
 }
@@ -8,7 +8,6 @@ import net.minecraft.client.gui.DrawContext;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.gui.widget.ButtonWidget;
 import net.minecraft.text.Text;
-import net.minecraft.util.Identifier;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -115,7 +114,7 @@ public class OreSelectorScreen extends Screen {
         // Get current dimension to show relevant ores first
         Dimension currentDimension = null;
         if (client.world != null) {
-            currentDimension = Dimension.fromWorld(client.world);
+            currentDimension = WorldDimensions.fromWorld(client.world);
         }
 
         // Add current dimension ores first
@@ -184,11 +183,18 @@ public class OreSelectorScreen extends Screen {
         // Enable scissor for scrollable content
         context.enableScissor(columnX, contentStartY, columnX + COLUMN_WIDTH, contentEndY);
 
+        // Resolve the player's Y-level and biome once for all rows
+        MinecraftClient client = MinecraftClient.getInstance();
+        BiomeResolver resolver = BiomeResolver.getInstance();
+        resolver.update(client);
+        BiomeClass biomeClass = resolver.getBiomeClass();
+        int currentY = client.player != null ? client.player.getBlockY() : 0;
+
         // Render ore entries
         int entryY = contentStartY - scrollOffset;
         for (OreEntry entry : oreEntries) {
             if (entryY + ROW_HEIGHT > contentStartY && entryY < contentEndY) {
-                renderOreEntry(context, entry, columnX + LEFT_MARGIN, entryY, mouseX, mouseY);
+                renderOreEntry(context, entry, columnX + LEFT_MARGIN, entryY, currentY, biomeClass);
             }
             entryY += ROW_HEIGHT;
         }
@@ -204,7 +210,7 @@ public class OreSelectorScreen extends Screen {
         super.render(context, mouseX, mouseY, delta);
     }
 
-    private void renderOreEntry(DrawContext context, OreEntry entry, int x, int y, int mouseX, int mouseY) {
+    private void renderOreEntry(DrawContext context, OreEntry entry, int x, int y, int currentY, BiomeClass biomeClass) {
         ServerDataManager serverData = ServerDataManager.getInstance();
         boolean isTracked = serverData.isOreTracked(entry.ore);
 
@@ -217,10 +223,7 @@ public class OreSelectorScreen extends Screen {
         int textColor = isTracked ? TEXT_PRIMARY : SETTINGS_UNSELECTED;
 
         // Get current tier for this ore
-        MinecraftClient client = MinecraftClient.getInstance();
-        Identifier biome = BiomeChecker.getCurrentBiome(client);
-        int currentY = client.player != null ? (int) client.player.getY() : 0;
-        ProbabilityTier tier = OreDistribution.getTier(entry.ore, currentY, biome);
+        ProbabilityTier tier = OreTierTable.get().getTier(entry.ore, currentY, biomeClass);
 
         // Draw tier color dot
         if (tier != ProbabilityTier.NONE) {
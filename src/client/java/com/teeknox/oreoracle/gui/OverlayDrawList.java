@@ -0,0 +1,151 @@
+package com.teeknox.oreoracle.gui;
+
+import net.minecraft.client.font.TextRenderer;
+import net.minecraft.client.gui.DrawContext;
+import net.minecraft.item.ItemStack;
+
+import java.util.Arrays;
+
+/**
+ * Retained draw commands for {@link OreOracleOverlay}.
+ * The overlay records its fills, text and item icons here once per {@link OverlaySnapshot}, with every
+ * position already resolved by {@link OverlayLayout} (centered text included), and replays them each frame
+ * until the next snapshot.
+ * Commands are kept in flat arrays that are reused between recordings, so replaying allocates nothing.
+ * They are replayed into a {@link Target}: the frame's {@link DrawContext} through {@link ContextTarget}.
+ */
+class OverlayDrawList {
+    private static final int FILL_STRIDE = 5;
+
+    private int[] fills = new int[FILL_STRIDE * 16];
+    private int fillCount;
+
+    private String[] texts = new String[16];
+    private int[] textCoords = new int[16 * 3];
+    private int textCount;
+
+    private ItemStack[] items = new ItemStack[8];
+    private int[] itemCoords = new int[8 * 2];
+    private int itemCount;
+
+    /**
+     * Drop all commands and start a new recording.
+     */
+    void begin() {
+        fillCount = 0;
+        Arrays.fill(texts, 0, textCount, null);
+        textCount = 0;
+        Arrays.fill(items, 0, itemCount, null);
+        itemCount = 0;
+    }
+
+    void fill(int x1, int y1, int x2, int y2, int color) {
+        int offset = fillCount * FILL_STRIDE;
+        if (offset + FILL_STRIDE > fills.length) {
+            fills = Arrays.copyOf(fills, fills.length * 2);
+        }
+        fills[offset] = x1;
+        fills[offset + 1] = y1;
+        fills[offset + 2] = x2;
+        fills[offset + 3] = y2;
+        fills[offset + 4] = color;
+        fillCount++;
+    }
+
+    /**
+     * Record text drawn with a shadow.
+     */
+    void text(String text, int x, int y, int color) {
+        if (textCount == texts.length) {
+            texts = Arrays.copyOf(texts, texts.length * 2);
+            textCoords = Arrays.copyOf(textCoords, textCoords.length * 2);
+        }
+        texts[textCount] = text;
+        int offset = textCount * 3;
+        textCoords[offset] = x;
+        textCoords[offset + 1] = y;
+        textCoords[offset + 2] = color;
+        textCount++;
+    }
+
+    void item(ItemStack stack, int x, int y) {
+        if (itemCount == items.length) {
+            items = Arrays.copyOf(items, items.length * 2);
+            itemCoords = Arrays.copyOf(itemCoords, itemCoords.length * 2);
+        }
+        items[itemCount] = stack;
+        itemCoords[itemCount * 2] = x;
+        itemCoords[itemCount * 2 + 1] = y;
+        itemCount++;
+    }
+
+    /**
+     * Issue the recorded commands: fills first, then icons, then text on top.
+     */
+    void replay(Target target) {
+        for (int i = 0; i < fillCount; i++) {
+            int offset = i * FILL_STRIDE;
+            target.fill(fills[offset], fills[offset + 1], fills[offset + 2], fills[offset + 3], fills[offset + 4]);
+        }
+        for (int i = 0; i < itemCount; i++) {
+            target.item(items[i], itemCoords[i * 2], itemCoords[i * 2 + 1]);
+        }
+        for (int i = 0; i < textCount; i++) {
+            int offset = i * 3;
+            target.text(texts[i], textCoords[offset], textCoords[offset + 1], textCoords[offset + 2]);
+        }
+    }
+
+    /**
+     * Receiver of replayed commands.
+     */
+    interface Target {
+        void fill(int x1, int y1, int x2, int y2, int color);
+
+        void item(ItemStack stack, int x, int y);
+
+        /**
+         * Draw text with a shadow.
+         */
+        void text(String text, int x, int y, int color);
+    }
+
+    /**
+     * Replays into the current frame's draw context. One instance is reused for every frame.
+     */
+    static final class ContextTarget implements Target {
+        private DrawContext context;
+        private TextRenderer textRenderer;
+
+        /**
+         * Point the target at this frame's context.
+         */
+        void begin(DrawContext context, TextRenderer textRenderer) {
+            this.context = context;
+            this.textRenderer = textRenderer;
+        }
+
+        /**
+         * Drop the frame's context so it isn't kept alive until the next frame.
+         */
+        void end() {
+            context = null;
+            textRenderer = null;
+        }
+
+        @Override
+        public void fill(int x1, int y1, int x2, int y2, int color) {
+            context.fill(x1, y1, x2, y2, color);
+        }
+
+        @Override
+        public void item(ItemStack stack, int x, int y) {
+            context.drawItem(stack, x, y);
+        }
+
+        @Override
+        public void text(String text, int x, int y, int color) {
+            context.drawText(textRenderer, text, x, y, color, true);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.teeknox.oreoracle.gui;
+
+import com.teeknox.oreoracle.data.Ore;
+import com.teeknox.oreoracle.data.ProbabilityTier;
+
+/**
+ * The overlay's ore entries in display order: GREEN, YELLOW, RED, then NONE, and declaration order
+ * within each tier. Entries are stored as parallel arrays sized for every ore, so a recompute
+ * reuses the same storage and allocates nothing.
+ *
+ * Filling is a counting sort over the four tiers: {@link #add} collects ores with their tiers and
+ * {@link #place} gives each one its slot, so ordering is linear in the number of ores and stable.
+ */
+final class OverlayEntries {
+    /** Percentage value for entries whose ore has no density model. */
+    static final int NO_PERCENT = -1;
+
+    private static final ProbabilityTier[] TIERS = ProbabilityTier.values();
+
+    // Entries, indexed by display position
+    final Ore[] ores;
+    final ProbabilityTier[] tiers;
+    final boolean[] atPeak;
+    final String[] displayTexts;
+    final int[] percents;
+    final ProbabilityTier[] empiricalTiers;
+    private int size;
+
+    // Ores added since the last clear(), in add order, and the number per tier
+    private final Ore[] pendingOres;
+    private final ProbabilityTier[] pendingTiers;
+    private final int[] bucketOffsets = new int[TIERS.length];
+    private int pendingCount;
+
+    OverlayEntries() {
+        int capacity = Ore.values().length;
+        ores = new Ore[capacity];
+        tiers = new ProbabilityTier[capacity];
+        atPeak = new boolean[capacity];
+        displayTexts = new String[capacity];
+        percents = new int[capacity];
+        empiricalTiers = new ProbabilityTier[capacity];
+        pendingOres = new Ore[capacity];
+        pendingTiers = new ProbabilityTier[capacity];
+    }
+
+    /**
+     * Start a new fill.
+     */
+    void clear() {
+        size = 0;
+        pendingCount = 0;
+        for (int i = 0; i < bucketOffsets.length; i++) {
+            bucketOffsets[i] = 0;
+        }
+    }
+
+    /**
+     * Collect an ore to display.
+     */
+    void add(Ore ore, ProbabilityTier tier) {
+        pendingOres[pendingCount] = ore;
+        pendingTiers[pendingCount] = tier;
+        pendingCount++;
+        bucketOffsets[tier.ordinal()]++;
+    }
+
+    /**
+     * Turn the per-tier counts into each tier's first slot. Call once after all {@link #add} calls.
+     *
+     * @return The number of collected ores
+     */
+    int place() {
+        int offset = 0;
+        for (int i = 0; i < bucketOffsets.length; i++) {
+            int count = bucketOffsets[i];
+            bucketOffsets[i] = offset;
+            offset += count;
+        }
+        size = pendingCount;
+        return pendingCount;
+    }
+
+    /**
+     * Get the ore collected at a position in add order.
+     */
+    Ore pendingOre(int index) {
+        return pendingOres[index];
+    }
+
+    /**
+     * Get the tier of the ore collected at a position in add order.
+     */
+    ProbabilityTier pendingTier(int index) {
+        return pendingTiers[index];
+    }
+
+    /**
+     * Store the details of a collected ore in the next slot of its tier.
+     * Must be called in add order for the order within a tier to be stable.
+     */
+    void set(Ore ore, ProbabilityTier tier, boolean isAtPeak, String displayText, int percent,
+             ProbabilityTier empiricalTier) {
+        int index = bucketOffsets[tier.ordinal()]++;
+        ores[index] = ore;
+        tiers[index] = tier;
+        atPeak[index] = isAtPeak;
+        displayTexts[index] = displayText;
+        percents[index] = percent;
+        empiricalTiers[index] = empiricalTier;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean hasPercent(int index) {
+        return percents[index] != NO_PERCENT;
+    }
+}
@@ -0,0 +1,204 @@
+package com.teeknox.oreoracle.gui;
+
+import com.teeknox.oreoracle.config.ModConfig;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Precomputed HUD geometry for {@link OreOracleOverlay}.
+ * Holds the box bounds, per-row positions and per-entry text widths so rendering is a
+ * pure replay of stored coordinates. Rebuilt only when the entries, config snapshot,
+ * scaled window size or fonts/language change. Text is measured through a width function
+ * (the game's text renderer in the overlay), so the geometry doesn't depend on a live font.
+ */
+class OverlayLayout {
+    // Geometry constants from STYLE_GUIDE.md
+    static final int PADDING = 4;
+    static final int LINE_HEIGHT_TEXT = 10;
+    static final int LINE_HEIGHT_ICON = 18; // Taller for 16x16 item icons
+    static final int ICON_SIZE = 16;
+    static final int INDICATOR_SIZE = 6;
+    static final int PERCENT_GAP = 4;
+    private static final int STANDARD_WIDTH = 90; // Narrower width (was 120)
+
+    // Box bounds
+    int x;
+    int y;
+    int width;
+    int height;
+    int centerX;
+
+    // Header and overflow rows
+    boolean showHeader;
+    int headerX;
+    int headerY;
+    int overflowCount;
+    String overflowText = "";
+    int overflowX;
+    int overflowY;
+
+    // Entry rows
+    boolean iconMode;
+    boolean showEmpirical;
+    int visibleCount;
+    int indicatorX;
+    int empiricalX;
+    int iconX;
+    int textX;
+    int starX;
+    int percentX; // Right edge of the percentage column
+    int[] indicatorY = new int[0];
+    int[] iconY = new int[0];
+    int[] textY = new int[0];
+    int[] textWidths = new int[0];
+    int[] percentWidths = new int[0];
+
+    private boolean dirty = true;
+    private ModConfig.Snapshot config;
+    private int screenWidth = -1;
+    private int screenHeight = -1;
+
+    /**
+     * Mark the layout as stale (entries, settings or fonts changed).
+     */
+    void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Check if the layout must be rebuilt before rendering with the given settings and scaled window size.
+     * Config snapshots are immutable, so a changed setting always shows up as a new instance.
+     */
+    boolean needsUpdate(ModConfig.Snapshot config, int screenWidth, int screenHeight) {
+        return dirty || config != this.config
+                || screenWidth != this.screenWidth || screenHeight != this.screenHeight;
+    }
+
+    /**
+     * Rebuild all geometry for the given entries.
+     *
+     * @param textWidth  Width of a string in the HUD font
+     * @param fontHeight Height of a line in the HUD font
+     */
+    void update(OverlayEntries entries, ModConfig.Snapshot config, ToIntFunction<String> textWidth, int fontHeight,
+                String headerText, String peakStar, int screenWidth, int screenHeight) {
+        this.config = config;
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        this.dirty = false;
+
+        iconMode = config.displayMode() == ModConfig.DisplayMode.ICON;
+        showHeader = config.showHudHeader();
+        int lineHeight = iconMode ? LINE_HEIGHT_ICON : LINE_HEIGHT_TEXT;
+        int maxVisible = config.maxVisibleOres();
+
+        int entryCount = entries.size();
+        visibleCount = Math.min(entryCount, maxVisible);
+        overflowCount = entryCount - visibleCount;
+        overflowText = overflowCount > 0 ? "+" + overflowCount + " more" : "";
+        ensureCapacity(entryCount);
+
+        // Measure entry text once per rebuild
+        int maxTextWidth = 0;
+        int maxPercentWidth = 0;
+        for (int i = 0; i < entryCount; i++) {
+            textWidths[i] = textWidth.applyAsInt(entries.displayTexts[i]);
+            maxTextWidth = Math.max(maxTextWidth, textWidths[i]);
+            percentWidths[i] = entries.hasPercent(i)
+                    ? textWidth.applyAsInt(OreOracleOverlay.percentLabel(entries.percents[i]))
+                    : 0;
+            maxPercentWidth = Math.max(maxPercentWidth, percentWidths[i]);
+        }
+        int percentColumnWidth = maxPercentWidth > 0 ? PERCENT_GAP + maxPercentWidth : 0;
+
+        // Second indicator column when any visible entry has an empirical tier
+        showEmpirical = false;
+        for (int i = 0; i < visibleCount; i++) {
+            showEmpirical |= entries.empiricalTiers[i] != null;
+        }
+        int empiricalColumnWidth = showEmpirical ? INDICATOR_SIZE + 2 : 0;
+
+        // Size
+        if (iconMode) {
+            // Icon mode: padding + indicator + gap + icon + gap + star + padding
+            // Fixed width since icons are uniform size
+            int indicatorWidth = INDICATOR_SIZE + 2; // indicator size + gap
+            int starWidth = textWidth.applyAsInt(peakStar) + 1;
+            width = PADDING + indicatorWidth + empiricalColumnWidth + ICON_SIZE + starWidth + percentColumnWidth + PADDING;
+        } else {
+            // Width = padding + indicator + gap + text + padding
+            int indicatorWidth = INDICATOR_SIZE + 4; // indicator size + gap
+            width = Math.max(STANDARD_WIDTH,
+                    PADDING + indicatorWidth + empiricalColumnWidth + maxTextWidth + percentColumnWidth + PADDING);
+        }
+
+        int headerWidth = textWidth.applyAsInt(headerText);
+        if (showHeader) {
+            width = Math.max(width, PADDING + headerWidth + PADDING);
+        }
+
+        int lines = visibleCount + (overflowCount > 0 ? 1 : 0);
+        height = PADDING + (lines * lineHeight) + PADDING;
+        if (showHeader) {
+            height += LINE_HEIGHT_TEXT + PADDING;
+        }
+
+        // Position
+        x = calculateX(config, screenWidth, width);
+        y = calculateY(config, screenHeight, height);
+        centerX = x + width / 2;
+        headerX = centerX - headerWidth / 2;
+
+        // Rows
+        int contentY = y + PADDING;
+        headerY = contentY;
+        if (showHeader) {
+            contentY += LINE_HEIGHT_TEXT + PADDING;
+        }
+
+        indicatorX = x + PADDING;
+        empiricalX = indicatorX + INDICATOR_SIZE + 2;
+        iconX = indicatorX + INDICATOR_SIZE + 2 + empiricalColumnWidth;
+        textX = indicatorX + INDICATOR_SIZE + 4 + empiricalColumnWidth;
+        starX = iconX + ICON_SIZE + 1;
+        percentX = x + width - PADDING;
+
+        for (int i = 0; i < visibleCount; i++) {
+            indicatorY[i] = contentY + (lineHeight - INDICATOR_SIZE) / 2;
+            iconY[i] = contentY + (LINE_HEIGHT_ICON - ICON_SIZE) / 2;
+            textY[i] = iconMode ? contentY + (LINE_HEIGHT_ICON - fontHeight) / 2 : contentY;
+            contentY += lineHeight;
+        }
+        overflowX = centerX - textWidth.applyAsInt(overflowText) / 2;
+        overflowY = contentY;
+    }
+
+    private void ensureCapacity(int count) {
+        if (textWidths.length < count) {
+            indicatorY = new int[count];
+            iconY = new int[count];
+            textY = new int[count];
+            textWidths = new int[count];
+            percentWidths = new int[count];
+        }
+    }
+
+    private static int calculateX(ModConfig.Snapshot config, int screenWidth, int overlayWidth) {
+        int x = config.overlayX();
+        if (config.hudPosition() == ModConfig.HudPosition.RIGHT) {
+            // Right side: negative offset means from right edge
+            return screenWidth - overlayWidth - Math.abs(x);
+        }
+        // Left side: positive x is from left edge, negative means from left edge counting backwards
+        return x < 0 ? screenWidth + x - overlayWidth : x;
+    }
+
+    static int calculateY(ModConfig.Snapshot config, int screenHeight, int overlayHeight) {
+        int offset = config.overlayY();
+        return switch (config.verticalPosition()) {
+            case TOP -> offset;
+            case CENTER -> (screenHeight - overlayHeight) / 2 + offset;
+            case BOTTOM -> screenHeight - overlayHeight - Math.abs(offset);
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.teeknox.oreoracle.gui;
+
+import com.teeknox.oreoracle.OreOracleMod;
+import net.fabricmc.fabric.api.resource.ResourceReloadListenerKeys;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Invalidates the cached overlay layout after fonts or the language change,
+ * since both affect measured text widths.
+ */
+public class OverlayReloadListener implements SimpleSynchronousResourceReloadListener {
+    private static final Identifier ID = Identifier.of(OreOracleMod.MOD_ID, "overlay_layout");
+
+    @Override
+    public Identifier getFabricId() {
+        return ID;
+    }
+
+    @Override
+    public Collection<Identifier> getFabricDependencies() {
+        return List.of(ResourceReloadListenerKeys.FONTS, ResourceReloadListenerKeys.LANGUAGES);
+    }
+
+    @Override
+    public void reload(ResourceManager manager) {
+        OreOracleOverlay.getInstance().invalidateLayout();
+    }
+}
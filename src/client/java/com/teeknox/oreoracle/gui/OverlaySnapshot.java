@@ -0,0 +1,22 @@
+package com.teeknox.oreoracle.gui;
+
+import com.teeknox.oreoracle.config.ModConfig;
+import com.teeknox.oreoracle.data.Dimension;
+
+/**
+ * Everything the overlay draws for one state: computed on the client tick by
+ * {@link OreOracleOverlay#tick} and published to the render path as a whole.
+ * None of the parts are modified after publication.
+ *
+ * @param config       Settings the snapshot was built with
+ * @param y            Player Y-level the entries were computed for
+ * @param dimension    Dimension the entries were computed for
+ * @param entries      Ore entries in display order; one of the overlay's two entry buffers, not refilled
+ *                     until a newer snapshot has replaced this one
+ * @param headerText   Y-level header
+ * @param layout       Geometry for the entries, including the "+N more" label
+ * @param drawList     Draw commands recorded from the other parts
+ */
+record OverlaySnapshot(ModConfig.Snapshot config, int y, Dimension dimension, OverlayEntries entries,
+                       String headerText, OverlayLayout layout, OverlayDrawList drawList) {
+}
@@ -0,0 +1,68 @@
+package com.teeknox.oreoracle.gui;
+
+import com.teeknox.oreoracle.telemetry.LatencyHistogram;
+import com.teeknox.oreoracle.telemetry.Telemetry;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gui.DrawContext;
+
+/**
+ * Debug HUD line with the p99 cost of the overlay's main sections, toggled by {@code /oo stats hud}.
+ * The text is rebuilt once a second on the client tick, so rendering it allocates nothing.
+ */
+public class TelemetryHudLine {
+    private static final int TEXT_PRIMARY = 0xFFFFFFFF;
+    private static final int REFRESH_TICKS = 20;
+
+    private static TelemetryHudLine instance;
+
+    private String text = "";
+    private int ticksUntilRefresh;
+
+    private TelemetryHudLine() {}
+
+    public static TelemetryHudLine getInstance() {
+        if (instance == null) {
+            instance = new TelemetryHudLine();
+        }
+        return instance;
+    }
+
+    /**
+     * Refresh the text once a second while the line is shown. Called at the end of every client tick.
+     */
+    public void tick() {
+        if (!Telemetry.isHudLine()) {
+            ticksUntilRefresh = 0;
+            return;
+        }
+        if (--ticksUntilRefresh > 0) {
+            return;
+        }
+        ticksUntilRefresh = REFRESH_TICKS;
+
+        long recomputes = Telemetry.Timer.RECOMPUTE.getHistogram().getCount();
+        long hits = Telemetry.Counter.CACHE_HITS.get();
+        long hitPercent = recomputes + hits > 0 ? hits * 100 / (recomputes + hits) : 0;
+        text = "Ore Oracle p99  render " + p99(Telemetry.Timer.RENDER)
+                + "  recompute " + p99(Telemetry.Timer.RECOMPUTE)
+                + "  biome " + p99(Telemetry.Timer.BIOME)
+                + "  cache " + hitPercent + "%";
+    }
+
+    /**
+     * Draw the line at the top center of the screen. Called from HudElementRegistry.
+     */
+    public void render(DrawContext context) {
+        if (!Telemetry.isHudLine()) {
+            return;
+        }
+        MinecraftClient client = MinecraftClient.getInstance();
+        context.drawCenteredTextWithShadow(client.textRenderer, text, context.getScaledWindowWidth() / 2, 2,
+                TEXT_PRIMARY);
+    }
+
+    private static String p99(Telemetry.Timer timer) {
+        LatencyHistogram histogram = timer.getHistogram();
+        return Telemetry.formatNanos(histogram.getPercentile(0.99));
+    }
+}
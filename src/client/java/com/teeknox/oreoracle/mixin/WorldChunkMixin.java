@@ -0,0 +1,32 @@
+package com.teeknox.oreoracle.mixin;
+
+import com.teeknox.oreoracle.data.ChunkOreScanner;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.WorldChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Reports block changes in client chunks to the empirical ore histogram.
+ * Single-block and multi-block update packets (and the client's own block predictions)
+ * all end up in {@link WorldChunk#setBlockState}, which returns the replaced state.
+ */
+@Mixin(WorldChunk.class)
+public abstract class WorldChunkMixin {
+    @Inject(method = "setBlockState", at = @At("RETURN"))
+    private void oreoracle$onSetBlockState(BlockPos pos, BlockState state, int flags,
+                                           CallbackInfoReturnable<BlockState> cir) {
+        BlockState previous = cir.getReturnValue();
+        if (previous == null) {
+            return;
+        }
+        World world = ((WorldChunk) (Object) this).getWorld();
+        if (world.isClient()) {
+            ChunkOreScanner.getInstance().onBlockChanged(world, pos, previous, state);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.teeknox.oreoracle.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder events for Ore Oracle's work, grouped under the "Ore Oracle" category.
+ *
+ * Events are created, begun and committed around the work they describe; JFR supplies the
+ * duration and thread. While no recording has them enabled, {@code commit()} does nothing.
+ * The per-frame {@link Render} and per-recompute {@link Recompute} events are only created while a
+ * recording has them enabled, so the overlay's hot paths allocate nothing outside a recording; the
+ * other events are rare enough not to need the check.
+ */
+public final class OreOracleEvents {
+    private static final String CATEGORY = "Ore Oracle";
+
+    private static final EventType RENDER_TYPE = EventType.getEventType(Render.class);
+    private static final EventType RECOMPUTE_TYPE = EventType.getEventType(Recompute.class);
+
+    private OreOracleEvents() {}
+
+    /**
+     * Check if a running recording has the {@link Render} event enabled.
+     */
+    public static boolean isRenderEnabled() {
+        return RENDER_TYPE.isEnabled();
+    }
+
+    /**
+     * Check if a running recording has the {@link Recompute} event enabled.
+     */
+    public static boolean isRecomputeEnabled() {
+        return RECOMPUTE_TYPE.isEnabled();
+    }
+
+    @Name("oreoracle.Render")
+    @Label("HUD Render")
+    @Category(CATEGORY)
+    @Description("Drawing the ore overlay for one frame")
+    public static final class Render extends Event {
+        @Label("Y-Level")
+        public int y;
+
+        @Label("Dimension")
+        public String dimension;
+
+        @Label("Entry Count")
+        public int entryCount;
+    }
+
+    @Name("oreoracle.Recompute")
+    @Label("Entry Recompute")
+    @Category(CATEGORY)
+    @Description("Rebuilding the overlay entries after the Y-level, biome or settings changed")
+    public static final class Recompute extends Event {
+        @Label("Y-Level")
+        public int y;
+
+        @Label("Dimension")
+        public String dimension;
+
+        @Label("Biome Class")
+        public String biomeClass;
+
+        @Label("Entry Count")
+        public int entryCount;
+    }
+
+    @Name("oreoracle.ChunkScan")
+    @Label("Chunk Scan")
+    @Category(CATEGORY)
+    @Description("Counting the ore blocks of one loaded chunk on the scan pool")
+    public static final class ChunkScan extends Event {
+        @Label("Chunk X")
+        public int chunkX;
+
+        @Label("Chunk Z")
+        public int chunkZ;
+
+        @Label("Dimension")
+        public String dimension;
+
+        @Label("Sections")
+        public int sectionCount;
+    }
+
+    @Name("oreoracle.ChartBake")
+    @Label("Chart Bake")
+    @Category(CATEGORY)
+    @Description("Painting the distribution chart texture")
+    public static final class ChartBake extends Event {
+        @Label("Dimension")
+        public String dimension;
+
+        @Label("Biome Class")
+        public String biomeClass;
+
+        @Label("Ore Count")
+        public int oreCount;
+    }
+
+    @Name("oreoracle.FileWrite")
+    @Label("File Write")
+    @Category(CATEGORY)
+    @Description("Writing a config or server data file on the IO thread")
+    public static final class FileWrite extends Event {
+        @Label("Path")
+        public String path;
+
+        @Label("Characters")
+        public int characters;
+    }
+
+    @Name("oreoracle.ObservationWrite")
+    @Label("Observation Write")
+    @Category(CATEGORY)
+    @Description("Forcing empirical ore counters and seen chunks to disk on the IO thread")
+    public static final class ObservationWrite extends Event {
+        @Label("Dimension")
+        public String dimension;
+
+        @Label("New Chunks")
+        public int chunkCount;
+    }
+}
@@ -0,0 +1,170 @@
+package com.teeknox.oreoracle.telemetry;
+
+import net.minecraft.util.profiler.Profiler;
+import net.minecraft.util.profiler.Profilers;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Optional timing and counters for the mod's own work, shown by {@code /oo stats} and the debug HUD line.
+ *
+ * Instrumented code brackets its work with {@link #start} and {@link #stop}. Each section is always
+ * pushed onto the thread's Minecraft {@link Profiler} as {@code oreoracle/<section>}, so it shows up
+ * in the F3 profiler pie chart and profiler reports; that is nearly free while nothing is profiling.
+ * Recording only controls the clock reads and histograms: while it is off, {@link #start} returns 0
+ * without reading the clock and {@link #stop} records nothing. Recording is off by default and is
+ * not persisted.
+ */
+public final class Telemetry {
+    private static final String PROFILER_ROOT = "oreoracle";
+
+    // Written on the client thread, read on the client and IO threads
+    private static volatile boolean enabled;
+    private static volatile boolean hudLine;
+
+    private Telemetry() {}
+
+    /**
+     * Timed sections.
+     */
+    public enum Timer {
+        RENDER("render", "render"),
+        RECOMPUTE("recompute", "recompute"),
+        BIOME("biome", "biome"),
+        SURVEY("biome survey", "survey"),
+        SCAN("chunk scan", "scan"),
+        CHART("chart", "chart"),
+        CONFIG_SAVE("config save", "save"),
+        SERVER_DATA_SAVE("server data save", "save"),
+        OBSERVATION_FLUSH("observation flush", "persist"),
+        FILE_WRITE("file write", "persist");
+
+        private final String label;
+        private final String section;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        Timer(String label, String section) {
+            this.label = label;
+            this.section = section;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public LatencyHistogram getHistogram() {
+            return histogram;
+        }
+    }
+
+    /**
+     * Event counters.
+     */
+    public enum Counter {
+        /** Overlay ticks that reused the cached entries */
+        CACHE_HITS("cache hits"),
+        /** Overlay snapshots published to the render path */
+        SNAPSHOTS("snapshots");
+
+        private final String label;
+        private final LongAdder adder = new LongAdder();
+
+        Counter(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public long get() {
+            return adder.sum();
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        Telemetry.enabled = enabled;
+        if (!enabled) {
+            hudLine = false;
+        }
+    }
+
+    public static boolean isHudLine() {
+        return hudLine;
+    }
+
+    /**
+     * Show or hide the debug HUD line. Showing it also turns recording on.
+     */
+    public static void setHudLine(boolean hudLine) {
+        Telemetry.hudLine = hudLine;
+        if (hudLine) {
+            enabled = true;
+        }
+    }
+
+    /**
+     * Enter a section.
+     *
+     * @return Start time to pass to {@link #stop}, or 0 if recording is off
+     */
+    public static long start(Timer timer) {
+        Profiler profiler = Profilers.get();
+        profiler.push(PROFILER_ROOT);
+        profiler.push(timer.section);
+        if (!enabled) {
+            return 0L;
+        }
+        // Never 0, so stop() can tell a timed section from an untimed one
+        return System.nanoTime() | 1L;
+    }
+
+    /**
+     * Leave a section entered with {@link #start}. Timing is keyed on the start value rather than
+     * the flag, so switching recording while a section is open never records a bogus duration.
+     */
+    public static void stop(Timer timer, long start) {
+        if (start != 0L) {
+            timer.histogram.record(System.nanoTime() - start);
+        }
+        Profiler profiler = Profilers.get();
+        profiler.pop();
+        profiler.pop();
+    }
+
+    public static void count(Counter counter) {
+        if (enabled) {
+            counter.adder.increment();
+        }
+    }
+
+    /**
+     * Drop all recorded samples and counts.
+     */
+    public static void reset() {
+        for (Timer timer : Timer.values()) {
+            timer.histogram.reset();
+        }
+        for (Counter counter : Counter.values()) {
+            counter.adder.reset();
+        }
+    }
+
+    /**
+     * Format a duration with a unit that keeps it short, e.g. "850ns", "12.3\u00b5s" or "4.56ms".
+     */
+    public static String formatNanos(long nanos) {
+        if (nanos < 1_000) {
+            return nanos + "ns";
+        }
+        if (nanos < 1_000_000) {
+            return String.format(Locale.ROOT, "%.1f\u00b5s", nanos / 1_000.0);
+        }
+        return String.format(Locale.ROOT, "%.2fms", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,40 @@
+package com.teeknox.oreoracle;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+
+import java.util.Random;
+
+/**
+ * Shared setup for the overlay JMH benchmarks.
+ * Overlay code sits next to item stacks and other game classes, so the game registries are
+ * bootstrapped before it is class-loaded. The distribution benchmarks in the core module need no bootstrap.
+ */
+public final class BenchmarkBootstrap {
+    /** Number of pre-generated samples per benchmark (power of two for cheap wrap-around). */
+    public static final int SAMPLES = 1024;
+
+    private static boolean initialized;
+
+    private BenchmarkBootstrap() {}
+
+    public static synchronized void init() {
+        if (!initialized) {
+            SharedConstants.createGameVersion();
+            Bootstrap.initialize();
+            initialized = true;
+        }
+    }
+
+    /**
+     * Generate Y-levels spread over the full overworld height, seeded for repeatable runs.
+     */
+    public static int[] randomYLevels(long seed) {
+        Random random = new Random(seed);
+        int[] ys = new int[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            ys[i] = -64 + random.nextInt(448);
+        }
+        return ys;
+    }
+}
@@ -0,0 +1,59 @@
+package com.teeknox.oreoracle.gui;
+
+import com.teeknox.oreoracle.BenchmarkBootstrap;
+import com.teeknox.oreoracle.data.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full-dimension recompute as done by OreOracleOverlay.updateCachedEntries on every Y change:
+ * the filter's display mask, then the entries grouped by tier.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OverlayRecomputeBenchmark {
+
+    @Param({"OVERWORLD", "NETHER"})
+    public String dimensionName;
+
+    @Param({"RED", "NONE"})
+    public String filterName;
+
+    private Dimension dimension;
+    private OreTierTable table;
+    private int visibleTiers;
+    private long trackedMask;
+    private int[] ys;
+    private final OverlayEntries entries = new OverlayEntries();
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        dimension = Dimension.valueOf(dimensionName);
+        table = OreTierTable.builtIn();
+        ys = BenchmarkBootstrap.randomYLevels(42);
+
+        // Track every other ore so "Specific" mode has something to show
+        visibleTiers = OreFilter.visibleTiers(ProbabilityTier.valueOf(filterName));
+        for (Ore ore : Ore.values()) {
+            if (ore.ordinal() % 2 == 0) {
+                trackedMask |= ore.getMask();
+            }
+        }
+    }
+
+    @Benchmark
+    public int recompute() {
+        int y = ys[cursor++ & (BenchmarkBootstrap.SAMPLES - 1)];
+        long displayMask = OreFilter.displayMask(visibleTiers, trackedMask, table, y, BiomeClass.NORMAL, BiomeMix.NONE);
+        OreOracleOverlay.collectEntries(entries, table, null, y, BiomeClass.NORMAL, BiomeMix.NONE, dimension,
+                displayMask);
+        return entries.size();
+    }
+}
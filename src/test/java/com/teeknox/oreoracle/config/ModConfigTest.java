@@ -0,0 +1,148 @@
+package com.teeknox.oreoracle.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the copy-on-write settings under concurrent readers and writers, and that saving only
+ * counts a snapshot as written once the write succeeded.
+ */
+class ModConfigTest {
+    private static final int UPDATES = 20_000;
+    private static final int READERS = 4;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void concurrentWritersNeverLoseUpdates() throws Exception {
+        ModConfig config = ModConfig.load(dir.resolve("config.json"));
+        config.setOverlayX(0);
+        config.setOverlayY(0);
+        config.setMaxVisibleOres(0);
+        config.setSurveyRadius(0);
+        config.setEnabled(true);
+
+        // One writer per field, so each read-modify-write only races with the other writers' fields
+        List<Thread> writers = List.of(
+                writer(() -> config.setOverlayX(config.getOverlayX() + 1)),
+                writer(() -> config.setOverlayY(config.getOverlayY() + 1)),
+                writer(() -> config.setMaxVisibleOres(config.getMaxVisibleOres() + 1)),
+                writer(() -> config.setSurveyRadius(config.getSurveyRadius() + 1)),
+                writer(config::toggleEnabled),
+                writer(config::save));
+
+        // Readers see each field only move forward: a snapshot never mixes in older values
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> failure = new AtomicReference<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < READERS; i++) {
+            readers.add(new Thread(() -> {
+                ModConfig.Snapshot previous = config.getSnapshot();
+                while (!done.get() && failure.get() == null) {
+                    ModConfig.Snapshot current = config.getSnapshot();
+                    checkForward(failure, "overlayX", ModConfig.Snapshot::overlayX, previous, current);
+                    checkForward(failure, "overlayY", ModConfig.Snapshot::overlayY, previous, current);
+                    checkForward(failure, "maxVisibleOres", ModConfig.Snapshot::maxVisibleOres, previous, current);
+                    checkForward(failure, "surveyRadius", ModConfig.Snapshot::surveyRadius, previous, current);
+                    previous = current;
+                }
+            }, "reader " + i));
+        }
+
+        readers.forEach(Thread::start);
+        writers.forEach(Thread::start);
+        for (Thread writer : writers) {
+            writer.join(TimeUnit.MINUTES.toMillis(1));
+            assertFalse(writer.isAlive(), "writer did not finish");
+        }
+        done.set(true);
+        for (Thread reader : readers) {
+            reader.join(TimeUnit.MINUTES.toMillis(1));
+        }
+
+        assertNull(failure.get());
+        ModConfig.Snapshot last = config.getSnapshot();
+        assertEquals(UPDATES, last.overlayX());
+        assertEquals(UPDATES, last.overlayY());
+        assertEquals(UPDATES, last.maxVisibleOres());
+        assertEquals(UPDATES, last.surveyRadius());
+        assertTrue(last.enabled(), "even number of toggles");
+
+        // The file holds the final settings once pending writes are flushed
+        config.save();
+        WriteBehindPersister.getInstance().flush();
+        assertEquals(last, ModConfig.load(dir.resolve("config.json")).getSnapshot());
+    }
+
+    @Test
+    void failedWriteIsRetriedOnNextSave() throws Exception {
+        // A regular file where the config directory should be makes every write fail
+        Path blocker = dir.resolve("blocked");
+        Files.writeString(blocker, "");
+        Path path = blocker.resolve("config.json");
+
+        ModConfig config = ModConfig.load(path);
+        config.setOverlayX(42);
+        config.save();
+        WriteBehindPersister.getInstance().flush();
+        assertFalse(Files.exists(path));
+
+        // Nothing changed since, but the snapshot never reached disk, so saving writes it now
+        Files.delete(blocker);
+        config.save();
+        WriteBehindPersister.getInstance().flush();
+        assertTrue(Files.exists(path));
+        assertEquals(config.getSnapshot(), ModConfig.load(path).getSnapshot());
+    }
+
+    @Test
+    void settingChangedAndRevertedWhileWritePendingReachesDisk() {
+        Path path = dir.resolve("config.json");
+        ModConfig config = ModConfig.load(path);
+        WriteBehindPersister.getInstance().flush();
+        boolean original = config.isEnabled();
+
+        // The second save equals the last written snapshot, but the first one's write is still queued
+        config.toggleEnabled();
+        config.save();
+        config.toggleEnabled();
+        config.save();
+        WriteBehindPersister.getInstance().flush();
+
+        assertEquals(original, config.isEnabled());
+        assertEquals(config.getSnapshot(), ModConfig.load(path).getSnapshot());
+    }
+
+    private static Thread writer(Runnable update) {
+        return new Thread(() -> {
+            for (int i = 0; i < UPDATES; i++) {
+                update.run();
+            }
+        });
+    }
+
+    private static void checkForward(AtomicReference<String> failure, String field,
+                                     ToIntFunction<ModConfig.Snapshot> value,
+                                     ModConfig.Snapshot previous, ModConfig.Snapshot current) {
+        int before = value.applyAsInt(previous);
+        int after = value.applyAsInt(current);
+        if (after < before) {
+            failure.compareAndSet(null, field + " went back from " + before + " to " + after);
+        }
+    }
+}
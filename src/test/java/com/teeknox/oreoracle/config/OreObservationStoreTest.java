@@ -0,0 +1,78 @@
+package com.teeknox.oreoracle.config;
+
+import com.teeknox.oreoracle.data.ChunkOreCounts;
+import com.teeknox.oreoracle.data.Dimension;
+import com.teeknox.oreoracle.data.Ore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that observations survive a restart and that a session ending without a flush never counts a
+ * chunk twice. A second store opened on the same files while the first still has them mapped sees
+ * exactly what a crash would leave on disk.
+ */
+class OreObservationStoreTest {
+    private static final String SERVER = "test";
+    private static final int Y = 16;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void flushedObservationsSurviveRestart() {
+        OreObservationStore store = open();
+        assertTrue(store.record(Dimension.OVERWORLD, chunk(1, 3)));
+        assertFalse(store.record(Dimension.OVERWORLD, chunk(1, 3)));
+        assertTrue(store.record(Dimension.OVERWORLD, chunk(2, 4)));
+        assertEquals(7, store.getCount(Dimension.OVERWORLD, Ore.IRON, Y));
+        store.close();
+        WriteBehindPersister.getInstance().flush();
+
+        OreObservationStore reopened = open();
+        assertEquals(7, reopened.getCount(Dimension.OVERWORLD, Ore.IRON, Y));
+        assertEquals(2, reopened.getChunkCount(Dimension.OVERWORLD));
+        assertFalse(reopened.record(Dimension.OVERWORLD, chunk(1, 3)));
+        reopened.close();
+    }
+
+    @Test
+    void unflushedChunksAreCountedOnceAfterCrash() {
+        OreObservationStore store = open();
+        store.record(Dimension.OVERWORLD, chunk(1, 3));
+        store.flush();
+        WriteBehindPersister.getInstance().flush();
+
+        // Recorded but never flushed: neither the chunk nor its counts may be on disk
+        store.record(Dimension.OVERWORLD, chunk(2, 4));
+
+        OreObservationStore afterCrash = open();
+        assertEquals(3, afterCrash.getCount(Dimension.OVERWORLD, Ore.IRON, Y));
+        assertEquals(1, afterCrash.getChunkCount(Dimension.OVERWORLD));
+
+        // Scanning the chunk again counts it exactly once
+        assertTrue(afterCrash.record(Dimension.OVERWORLD, chunk(2, 4)));
+        assertEquals(7, afterCrash.getCount(Dimension.OVERWORLD, Ore.IRON, Y));
+        afterCrash.close();
+        store.close();
+    }
+
+    private OreObservationStore open() {
+        OreObservationStore store = new OreObservationStore(dir);
+        store.open(SERVER);
+        return store;
+    }
+
+    private static ChunkOreCounts chunk(long chunkPos, int iron) {
+        int minY = Y & ~15;
+        int[] counts = new int[Ore.values().length * 16];
+        counts[Ore.IRON.ordinal() * 16 + (Y - minY)] = iron;
+        return new ChunkOreCounts(chunkPos, List.of(new ChunkOreCounts.Section(minY, counts)));
+    }
+}
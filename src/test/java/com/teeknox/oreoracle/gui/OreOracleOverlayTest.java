@@ -0,0 +1,42 @@
+package com.teeknox.oreoracle.gui;
+
+import com.teeknox.oreoracle.data.BiomeClass;
+import com.teeknox.oreoracle.data.BiomeMix;
+import com.teeknox.oreoracle.data.Dimension;
+import com.teeknox.oreoracle.data.Ore;
+import com.teeknox.oreoracle.data.OreTierTable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks which ores the overlay collects for a dimension.
+ */
+class OreOracleOverlayTest {
+    private static final long ALL_ORES = -1L;
+
+    private final OreTierTable table = OreTierTable.builtIn();
+
+    @Test
+    void unknownDimensionShowsNoOres() {
+        OverlayEntries entries = new OverlayEntries();
+        OreOracleOverlay.collectEntries(entries, table, null, 16, BiomeClass.NORMAL, BiomeMix.NONE, null, ALL_ORES);
+        assertTrue(entries.isEmpty());
+    }
+
+    @Test
+    void onlyOresOfTheDimensionAreCollected() {
+        OverlayEntries entries = new OverlayEntries();
+        for (Dimension dimension : Dimension.values()) {
+            OreOracleOverlay.collectEntries(entries, table, null, 16, BiomeClass.NORMAL, BiomeMix.NONE, dimension,
+                    ALL_ORES);
+            long collected = 0;
+            for (int i = 0; i < entries.size(); i++) {
+                assertEquals(dimension, entries.ores[i].getDimension());
+                collected |= entries.ores[i].getMask();
+            }
+            assertEquals(Ore.getDimensionMask(dimension), collected, dimension::name);
+        }
+    }
+}
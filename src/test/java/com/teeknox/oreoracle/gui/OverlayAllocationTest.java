@@ -0,0 +1,239 @@
+package com.teeknox.oreoracle.gui;
+
+import com.teeknox.oreoracle.config.ModConfig;
+import com.teeknox.oreoracle.data.BiomeClass;
+import com.teeknox.oreoracle.data.BiomeMix;
+import com.teeknox.oreoracle.data.Dimension;
+import com.teeknox.oreoracle.data.Ore;
+import com.teeknox.oreoracle.data.OreDefinition;
+import com.teeknox.oreoracle.data.OreFilter;
+import com.teeknox.oreoracle.data.OrePlacement;
+import com.teeknox.oreoracle.data.OreTierTable;
+import com.teeknox.oreoracle.data.ProbabilityTier;
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.item.ItemStack;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that steady-state frames and recomputes allocate nothing once warmed up.
+ * Uses the JVM's per-thread allocation counter, so escape analysis can't hide allocations the way
+ * a heap-size check would. Each check warms up by calling its measuring method, so the single
+ * measured call runs compiled code rather than an on-stack replacement of the loop.
+ */
+class OverlayAllocationTest {
+    private static final int WARMUP_PASSES = 200;
+    private static final int FRAMES = 1_000;
+    private static final int HEIGHT = OreTierTable.MAX_Y - OreTierTable.MIN_Y + 1;
+    // Iron's lower peak, so the HUD shows a peak star; few enough rows for the "+N more" label
+    private static final int Y = 16;
+    private static final int MAX_VISIBLE = 5;
+    private static final int SCREEN_WIDTH = 427;
+    private static final int SCREEN_HEIGHT = 240;
+    private static final int FONT_HEIGHT = 9;
+    private static final int CHAR_WIDTH = 6;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @BeforeAll
+    static void bootstrap() {
+        // Icon mode creates item stacks, which need the game registries
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+    }
+
+    @Test
+    void retainedNameFramesAllocateNothing() {
+        assertFramesAllocateNothing(ModConfig.DisplayMode.NAME, true);
+    }
+
+    @Test
+    void retainedIconFramesAllocateNothing() {
+        assertFramesAllocateNothing(ModConfig.DisplayMode.ICON, true);
+    }
+
+    @Test
+    void immediateNameFramesAllocateNothing() {
+        assertFramesAllocateNothing(ModConfig.DisplayMode.NAME, false);
+    }
+
+    @Test
+    void immediateIconFramesAllocateNothing() {
+        assertFramesAllocateNothing(ModConfig.DisplayMode.ICON, false);
+    }
+
+    @Test
+    void blendedRecomputeAllocatesNothing() {
+        enableCounter();
+        OreTierTable table = OreTierTable.builtIn();
+        BiomeMix mix = new BiomeMix(0.3f, 0.25f);
+        int visibleTiers = OreFilter.visibleTiers(ProbabilityTier.RED);
+        OverlayEntries entries = new OverlayEntries();
+
+        for (int i = 0; i < WARMUP_PASSES; i++) {
+            recomputeAllocations(entries, table, mix, visibleTiers);
+        }
+        assertEquals(0, recomputeAllocations(entries, table, mix, visibleTiers),
+                "bytes allocated over " + HEIGHT + " recomputes");
+    }
+
+    private void assertFramesAllocateNothing(ModConfig.DisplayMode displayMode, boolean retained) {
+        enableCounter();
+        OreOracleOverlay overlay = OreOracleOverlay.getInstance();
+        OverlaySnapshot snapshot = snapshot(overlay, displayMode, retained);
+        CountingTarget target = new CountingTarget();
+
+        for (int i = 0; i < WARMUP_PASSES; i++) {
+            frameAllocations(overlay, snapshot, target);
+        }
+        target.reset();
+        long allocated = frameAllocations(overlay, snapshot, target);
+
+        assertEquals(0, allocated, "bytes allocated over " + FRAMES + " frames");
+        assertEquals(expectedFills(snapshot) * FRAMES, target.fills);
+        assertEquals(expectedItems(snapshot) * FRAMES, target.items);
+        assertEquals(expectedTexts(snapshot) * FRAMES, target.texts);
+    }
+
+    /**
+     * Render a snapshot for {@link #FRAMES} frames.
+     *
+     * @return Bytes allocated by this thread meanwhile
+     */
+    private long frameAllocations(OreOracleOverlay overlay, OverlaySnapshot snapshot, CountingTarget target) {
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < FRAMES; i++) {
+            overlay.renderSnapshot(snapshot, target);
+        }
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    /**
+     * Run the overlay's recompute for every Y-level, minus the client singletons it reads its inputs from.
+     *
+     * @return Bytes allocated by this thread meanwhile
+     */
+    private long recomputeAllocations(OverlayEntries entries, OreTierTable table, BiomeMix mix, int visibleTiers) {
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int y = OreTierTable.MIN_Y; y <= OreTierTable.MAX_Y; y++) {
+            long displayMask = OreFilter.displayMask(visibleTiers, 0, table, y, BiomeClass.NORMAL, mix);
+            OreOracleOverlay.collectEntries(entries, table, null, y, BiomeClass.NORMAL, mix, Dimension.OVERWORLD,
+                    displayMask);
+        }
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    private void enableCounter() {
+        assertTrue(threads.isThreadAllocatedMemorySupported(), "per-thread allocation counter unavailable");
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * Build a snapshot the way the overlay's tick does: entries, then a layout, then the recorded draw list.
+     * Iron and copper get density models so their rows show percentages.
+     */
+    private static OverlaySnapshot snapshot(OreOracleOverlay overlay, ModConfig.DisplayMode displayMode,
+                                            boolean retained) {
+        OreTierTable table = OreTierTable.compile(List.of(
+                definition(Ore.IRON, -64, 72, 16),
+                definition(Ore.COPPER, -16, 112, 48)));
+        OverlayEntries entries = new OverlayEntries();
+        OreOracleOverlay.collectEntries(entries, table, null, Y, BiomeClass.NORMAL, BiomeMix.NONE,
+                Dimension.OVERWORLD, -1L);
+
+        ModConfig.Snapshot config = new ModConfig.Snapshot(true, true, ModConfig.HudPosition.LEFT,
+                ModConfig.VerticalPosition.TOP, 4, 4, displayMode, MAX_VISIBLE, false, retained, false, 2);
+        String headerText = "Y: " + Y + "  Best: -59";
+        OverlayLayout layout = new OverlayLayout();
+        layout.update(entries, config, text -> text.length() * CHAR_WIDTH, FONT_HEIGHT, headerText, "\u2605",
+                SCREEN_WIDTH, SCREEN_HEIGHT);
+        OverlaySnapshot snapshot = new OverlaySnapshot(config, Y, Dimension.OVERWORLD, entries, headerText, layout,
+                new OverlayDrawList());
+        overlay.record(snapshot.drawList(), snapshot);
+
+        // Every kind of command the HUD can draw, apart from empirical dots, is in the list
+        assertTrue(layout.showHeader);
+        assertTrue(layout.overflowCount > 0, "no overflow label");
+        assertTrue(countVisible(snapshot, true) > 0, "no peak star");
+        assertTrue(countPercents(snapshot) > 0, "no percentage");
+        return snapshot;
+    }
+
+    private static OreDefinition definition(Ore ore, int minY, int maxY, int peak) {
+        return OreDefinition.of(ore.getId(), minY, maxY, new int[]{peak}, null,
+                List.of(new OrePlacement(OrePlacement.Shape.TRAPEZOID, minY, maxY, 0, 10, 8, null)));
+    }
+
+    private static long expectedFills(OverlaySnapshot snapshot) {
+        return 1 + snapshot.layout().visibleCount;
+    }
+
+    private static long expectedItems(OverlaySnapshot snapshot) {
+        return snapshot.layout().iconMode ? snapshot.layout().visibleCount : 0;
+    }
+
+    private static long expectedTexts(OverlaySnapshot snapshot) {
+        OverlayLayout layout = snapshot.layout();
+        // Header and overflow label, then a name or a peak star per row, then the percentages
+        int names = layout.iconMode ? countVisible(snapshot, true) : layout.visibleCount;
+        return 2 + names + countPercents(snapshot);
+    }
+
+    private static int countVisible(OverlaySnapshot snapshot, boolean atPeak) {
+        int count = 0;
+        for (int i = 0; i < snapshot.layout().visibleCount; i++) {
+            if (snapshot.entries().atPeak[i] == atPeak) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int countPercents(OverlaySnapshot snapshot) {
+        int count = 0;
+        for (int i = 0; i < snapshot.layout().visibleCount; i++) {
+            if (snapshot.entries().hasPercent(i)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts replayed commands so the replay loop can't be optimized away.
+     */
+    private static final class CountingTarget implements OverlayDrawList.Target {
+        long fills;
+        long items;
+        long texts;
+
+        void reset() {
+            fills = 0;
+            items = 0;
+            texts = 0;
+        }
+
+        @Override
+        public void fill(int x1, int y1, int x2, int y2, int color) {
+            fills++;
+        }
+
+        @Override
+        public void item(ItemStack stack, int x, int y) {
+            items++;
+        }
+
+        @Override
+        public void text(String text, int x, int y, int color) {
+            texts++;
+        }
+    }
+}
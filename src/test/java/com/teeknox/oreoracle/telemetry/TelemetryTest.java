@@ -0,0 +1,95 @@
+package com.teeknox.oreoracle.telemetry;
+
+import net.minecraft.util.profiler.Profiler;
+import net.minecraft.util.profiler.Profilers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Checks that sections are only timed while recording, including when recording is switched mid-section,
+ * and that they always reach the Minecraft profiler.
+ */
+class TelemetryTest {
+
+    @AfterEach
+    void tearDown() {
+        Telemetry.setEnabled(false);
+        Telemetry.reset();
+    }
+
+    @Test
+    void disabledSectionsRecordNothing() {
+        Telemetry.setEnabled(false);
+        long start = Telemetry.start(Telemetry.Timer.RENDER);
+        assertEquals(0L, start);
+        Telemetry.stop(Telemetry.Timer.RENDER, start);
+        Telemetry.count(Telemetry.Counter.SNAPSHOTS);
+
+        assertEquals(0, Telemetry.Timer.RENDER.getHistogram().getCount());
+        assertEquals(0, Telemetry.Counter.SNAPSHOTS.get());
+    }
+
+    @Test
+    void enabledSectionsAreRecorded() {
+        Telemetry.setEnabled(true);
+        for (int i = 0; i < 3; i++) {
+            long start = Telemetry.start(Telemetry.Timer.RENDER);
+            assertNotEquals(0L, start);
+            Telemetry.stop(Telemetry.Timer.RENDER, start);
+        }
+        Telemetry.count(Telemetry.Counter.SNAPSHOTS);
+
+        assertEquals(3, Telemetry.Timer.RENDER.getHistogram().getCount());
+        assertEquals(1, Telemetry.Counter.SNAPSHOTS.get());
+    }
+
+    @Test
+    void switchingMidSectionFollowsTheStart() {
+        // Started while off: nothing to record, even though recording is on at stop
+        long skipped = Telemetry.start(Telemetry.Timer.RECOMPUTE);
+        Telemetry.setEnabled(true);
+        Telemetry.stop(Telemetry.Timer.RECOMPUTE, skipped);
+        assertEquals(0, Telemetry.Timer.RECOMPUTE.getHistogram().getCount());
+
+        // Started while on: recorded even though recording is off at stop
+        long timed = Telemetry.start(Telemetry.Timer.RECOMPUTE);
+        Telemetry.setEnabled(false);
+        Telemetry.stop(Telemetry.Timer.RECOMPUTE, timed);
+        assertEquals(1, Telemetry.Timer.RECOMPUTE.getHistogram().getCount());
+    }
+
+    @Test
+    void sectionsReachTheProfilerWithRecordingOnOrOff() {
+        List<String> calls = new ArrayList<>();
+        Profiler profiler = (Profiler) Proxy.newProxyInstance(Profiler.class.getClassLoader(),
+                new Class<?>[]{Profiler.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("push") && args[0] instanceof String section) {
+                        calls.add(section);
+                    } else if (method.getName().equals("pop")) {
+                        calls.add("pop");
+                    }
+                    return null;
+                });
+
+        try (Profilers.Scoped ignored = Profilers.using(profiler)) {
+            Telemetry.stop(Telemetry.Timer.SCAN, Telemetry.start(Telemetry.Timer.SCAN));
+            Telemetry.setEnabled(true);
+            Telemetry.stop(Telemetry.Timer.CHART, Telemetry.start(Telemetry.Timer.CHART));
+
+            // Switched off mid-section: still popped
+            long start = Telemetry.start(Telemetry.Timer.RENDER);
+            Telemetry.setEnabled(false);
+            Telemetry.stop(Telemetry.Timer.RENDER, start);
+        }
+
+        assertEquals(List.of("oreoracle", "scan", "pop", "pop", "oreoracle", "chart", "pop", "pop",
+                "oreoracle", "render", "pop", "pop"), calls);
+    }
+}